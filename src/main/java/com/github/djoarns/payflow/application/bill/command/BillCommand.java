@@ -1,5 +1,7 @@
 package com.github.djoarns.payflow.application.bill.command;
 
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
 import com.github.djoarns.payflow.domain.bill.valueobject.Status;
 
 import java.math.BigDecimal;
@@ -9,7 +11,10 @@ public sealed interface BillCommand permits
         BillCommand.Create,
         BillCommand.Update,
         BillCommand.Pay,
+        BillCommand.PayAll,
         BillCommand.List,
+        BillCommand.Search,
+        BillCommand.Export,
         BillCommand.CalculateTotalPaid,
         BillCommand.Find,
         BillCommand.ChangeStatus {
@@ -32,12 +37,32 @@ public sealed interface BillCommand permits
             LocalDate paymentDate
     ) implements BillCommand {}
 
+    record PayAll(
+            java.util.List<Long> ids,
+            LocalDate paymentDate
+    ) implements BillCommand {}
+
     record List(
             LocalDate startDate,
             LocalDate endDate,
             String description,
             int page,
-            int size
+            int size,
+            PaginationMode pagination,
+            BillCursor after,
+            TotalMode total
+    ) implements BillCommand {}
+
+    record Search(
+            String query,
+            int size,
+            SearchCursor after
+    ) implements BillCommand {}
+
+    record Export(
+            LocalDate startDate,
+            LocalDate endDate,
+            ExportFormat format
     ) implements BillCommand {}
 
     record CalculateTotalPaid(
@@ -2,7 +2,21 @@ package com.github.djoarns.payflow.application.bill.command;
 
 import java.io.InputStream;
 
+/**
+ * A CSV upload. {@code sha256} is the digest of the whole file when the caller could compute it
+ * up front; synchronous imports then skip files that were already imported.
+ */
 public record ImportBillsCommand(
         InputStream file,
-        String filename
-) {}
\ No newline at end of file
+        String filename,
+        ImportMode mode,
+        String sha256
+) {
+    public ImportBillsCommand(InputStream file, String filename, ImportMode mode) {
+        this(file, filename, mode, null);
+    }
+
+    public ImportBillsCommand(InputStream file, String filename) {
+        this(file, filename, ImportMode.JPA);
+    }
+}
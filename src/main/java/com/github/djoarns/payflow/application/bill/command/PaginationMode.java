@@ -0,0 +1,6 @@
+package com.github.djoarns.payflow.application.bill.command;
+
+public enum PaginationMode {
+    OFFSET,
+    KEYSET
+}
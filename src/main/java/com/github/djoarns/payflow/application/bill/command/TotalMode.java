@@ -0,0 +1,7 @@
+package com.github.djoarns.payflow.application.bill.command;
+
+public enum TotalMode {
+    EXACT,
+    ESTIMATED,
+    OMITTED
+}
@@ -1,25 +1,36 @@
 package com.github.djoarns.payflow.application.bill.controller;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.ExportFormat;
 import com.github.djoarns.payflow.application.bill.command.ImportBillsCommand;
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.dto.request.BillRequestDTO;
 import com.github.djoarns.payflow.application.bill.dto.response.BillResponseDTO;
 import com.github.djoarns.payflow.application.bill.mapper.BillRequestMapper;
 import com.github.djoarns.payflow.application.bill.mapper.BillResponseMapper;
 import com.github.djoarns.payflow.application.bill.usecase.*;
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillOperationException;
+import com.github.djoarns.payflow.infrastructure.importjob.Sha256InputStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -28,12 +39,19 @@ import java.time.LocalDate;
 @Tag(name = "Bills", description = "Bill management APIs")
 public class BillController {
     private final CreateBillUseCase createBillUseCase;
+    private final CreateBillsBatchUseCase createBillsBatchUseCase;
     private final UpdateBillUseCase updateBillUseCase;
     private final PayBillUseCase payBillUseCase;
+    private final PayBillsUseCase payBillsUseCase;
     private final ListBillsUseCase listBillsUseCase;
+    private final SearchBillsUseCase searchBillsUseCase;
+    private final ExportBillsUseCase exportBillsUseCase;
     private final FindBillUseCase findBillUseCase;
     private final CalculateTotalPaidUseCase calculateTotalPaidUseCase;
     private final ImportBillsUseCase importBillsUseCase;
+    private final SubmitBillImportJobUseCase submitBillImportJobUseCase;
+    private final FindBillImportJobUseCase findBillImportJobUseCase;
+    private final ExportBillImportRejectionsUseCase exportBillImportRejectionsUseCase;
     private final ChangeBillStatusUseCase changeBillStatusUseCase;
     private final BillRequestMapper requestMapper;
     private final BillResponseMapper responseMapper;
@@ -56,6 +74,15 @@ public class BillController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    @Operation(summary = "Create bills from an NDJSON stream, returning one result per line")
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        createBillsBatchUseCase.execute(request.getInputStream(), response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Find a bill by ID")
     public ResponseEntity<BillResponseDTO.Single> findById(@PathVariable Long id) {
@@ -86,6 +113,16 @@ public class BillController {
         return ResponseEntity.ok(responseMapper.toResponseDTO(result.bill()));
     }
 
+    @PatchMapping("/pay")
+    @Operation(summary = "Pay many bills with one payment date, reporting the ones that could not be paid")
+    public ResponseEntity<BillResponseDTO.PayAll> payAll(
+            @RequestBody @Valid BillRequestDTO.PayAll request
+    ) {
+        var command = requestMapper.toPayAllCommand(request);
+        var result = payBillsUseCase.execute(command);
+        return ResponseEntity.ok(responseMapper.toPayAllDTO(result));
+    }
+
     @GetMapping
     @Operation(summary = "List bills with filters")
     public ResponseEntity<BillResponseDTO.Page> list(
@@ -93,17 +130,61 @@ public class BillController {
             @RequestParam LocalDate endDate,
             @RequestParam(required = false) String description,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "OFFSET") PaginationMode pagination,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "EXACT") TotalMode total
     ) {
         var command = requestMapper.toListCommand(
-                new BillRequestDTO.Search(startDate, endDate, description, page, size)
+                new BillRequestDTO.Search(startDate, endDate, description, page, size, pagination, cursor, total)
         );
         var result = listBillsUseCase.execute(command);
         return ResponseEntity.ok(responseMapper.toPageDTO(result));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over bill descriptions, ranked by relevance")
+    public ResponseEntity<BillResponseDTO.SearchPage> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        var command = requestMapper.toSearchCommand(
+                new BillRequestDTO.TextSearch(query, size, cursor)
+        );
+        var result = searchBillsUseCase.execute(command);
+        return ResponseEntity.ok(responseMapper.toSearchPageDTO(result));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream all bills due in a period as CSV or NDJSON")
+    public void export(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        var extension = format == ExportFormat.NDJSON ? "ndjson" : "csv";
+        response.setContentType(format == ExportFormat.NDJSON ? "application/x-ndjson" : "text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"bills-" + startDate + "-" + endDate + "." + extension + "\""
+        );
+
+        exportBillsUseCase.execute(
+                new BillCommand.Export(startDate, endDate, format),
+                response.getOutputStream()
+        );
+    }
+
     @GetMapping("/total")
-    @Operation(summary = "Calculate total paid amount in a period")
+    @Operation(
+            summary = "Calculate total paid amount in a period",
+            description = "Read from the daily totals rollup. With payflow.bills.paid-index.enabled and several "
+                    + "replicas, payments made on other nodes may be missing for up to "
+                    + "payflow.bills.paid-index.refresh-interval."
+    )
     public ResponseEntity<BillResponseDTO.TotalPaid> calculateTotalPaid(
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate
@@ -117,13 +198,22 @@ public class BillController {
 
     @PostMapping("/import")
     @Operation(summary = "Import bills from CSV file")
-    public ResponseEntity<BillResponseDTO.Import> importBills(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<BillResponseDTO.Import> importBills(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "JPA") ImportMode mode
+    ) {
         try {
+            String sha256;
+            try (var in = file.getInputStream()) {
+                sha256 = Sha256InputStream.digest(in);
+            }
             return ResponseEntity.ok(responseMapper.toImportDTO(
                     importBillsUseCase.execute(
                             new ImportBillsCommand(
                                     file.getInputStream(),
-                                    file.getOriginalFilename()
+                                    file.getOriginalFilename(),
+                                    mode,
+                                    sha256
                             )
                     )
             ));
@@ -133,6 +223,56 @@ public class BillController {
         }
     }
 
+    @PostMapping(value = "/import", params = "async=true")
+    @Operation(summary = "Queue a CSV import and return its job")
+    public ResponseEntity<BillResponseDTO.ImportJob> submitImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "JPA") ImportMode mode
+    ) {
+        try {
+            var job = submitBillImportJobUseCase.execute(
+                    new ImportBillsCommand(file.getInputStream(), file.getOriginalFilename(), mode)
+            );
+            var location = ServletUriComponentsBuilder
+                    .fromCurrentRequestUri()
+                    .path("/{jobId}")
+                    .buildAndExpand(job.getId())
+                    .toUri();
+            return ResponseEntity.accepted()
+                    .location(location)
+                    .body(responseMapper.toImportJobDTO(job, LocalDateTime.now()));
+        } catch (IOException e) {
+            log.error("Failed to spool CSV file", e);
+            throw new InvalidBillOperationException("Failed to process CSV file: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get the progress of a CSV import job")
+    public ResponseEntity<BillResponseDTO.ImportJob> findImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(responseMapper.toImportJobDTO(
+                findBillImportJobUseCase.execute(jobId),
+                LocalDateTime.now()
+        ));
+    }
+
+    @GetMapping("/import/{jobId}/rejections")
+    @Operation(summary = "Download the rows rejected by a CSV import job as CSV")
+    public void exportImportRejections(
+            @PathVariable UUID jobId,
+            HttpServletResponse response
+    ) throws IOException {
+        var job = findBillImportJobUseCase.execute(jobId);
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"import-" + job.getId() + "-rejections.csv\""
+        );
+
+        exportBillImportRejectionsUseCase.execute(jobId, response.getOutputStream());
+    }
+
     @PatchMapping("/{id}/status")
     @Operation(summary = "Change bill status")
     public ResponseEntity<BillResponseDTO.Single> changeStatus(
@@ -1,10 +1,13 @@
 package com.github.djoarns.payflow.application.bill.dto.request;
 
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.domain.bill.valueobject.Status;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 public sealed interface BillRequestDTO {
     record Create(
@@ -39,6 +42,16 @@ public sealed interface BillRequestDTO {
             LocalDate paymentDate
     ) implements BillRequestDTO {}
 
+    record PayAll(
+            @NotEmpty(message = "At least one bill id is required")
+            @Size(max = 10000, message = "Cannot pay more than 10000 bills at once")
+            List<@NotNull(message = "Bill id cannot be null") Long> ids,
+
+            @NotNull(message = "Payment date is required")
+            @PastOrPresent(message = "Payment date cannot be in the future")
+            LocalDate paymentDate
+    ) implements BillRequestDTO {}
+
     record Search(
             @NotNull(message = "Start date is required")
             LocalDate startDate,
@@ -53,7 +66,25 @@ public sealed interface BillRequestDTO {
 
             @Positive(message = "Page size must be greater than zero")
             @Max(value = 100, message = "Page size cannot exceed 100")
-            int size
+            int size,
+
+            PaginationMode pagination,
+
+            String cursor,
+
+            TotalMode total
+    ) implements BillRequestDTO {}
+
+    record TextSearch(
+            @NotBlank(message = "Search query is required")
+            @Size(max = 255, message = "Search query cannot exceed 255 characters")
+            String query,
+
+            @Positive(message = "Page size must be greater than zero")
+            @Max(value = 100, message = "Page size cannot exceed 100")
+            int size,
+
+            String cursor
     ) implements BillRequestDTO {}
 
     record CalculateTotal(
@@ -2,7 +2,9 @@ package com.github.djoarns.payflow.application.bill.dto.response;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 public sealed interface BillResponseDTO {
     record Single(
@@ -16,24 +18,82 @@ public sealed interface BillResponseDTO {
 
     record Page(
             List<Single> content,
-            long totalElements,
-            int totalPages,
+            Long totalElements,
+            Integer totalPages,
+            String totalMode,
             int page,
             int size,
             boolean hasNext,
-            boolean hasPrevious
+            boolean hasPrevious,
+            String nextCursor
+    ) implements BillResponseDTO {}
+
+    record SearchHit(
+            Single bill,
+            float rank
+    ) implements BillResponseDTO {}
+
+    record SearchPage(
+            List<SearchHit> content,
+            int size,
+            boolean hasNext,
+            String nextCursor
     ) implements BillResponseDTO {}
 
     record TotalPaid(
             BigDecimal totalAmount,
+            long billCount,
             LocalDate startDate,
             LocalDate endDate
     ) implements BillResponseDTO {}
 
+    record PayAll(
+            int paidCount,
+            List<Long> paidIds,
+            List<PayRejection> rejected
+    ) implements BillResponseDTO {}
+
+    record PayRejection(
+            long id,
+            String reason
+    ) implements BillResponseDTO {}
+
     record Import(
             int totalProcessed,
             int successCount,
             int errorCount,
-            String message
+            int duplicateCount,
+            int chunksCommitted,
+            String message,
+            List<Rejection> rejections,
+            boolean rejectionsTruncated
+    ) implements BillResponseDTO {
+        public Import(int totalProcessed, int successCount, int errorCount, int chunksCommitted, String message) {
+            this(totalProcessed, successCount, errorCount, 0, chunksCommitted, message, List.of(), false);
+        }
+    }
+
+    record Rejection(
+            long line,
+            String column,
+            String reason
+    ) implements BillResponseDTO {}
+
+    record ImportJob(
+            UUID jobId,
+            String status,
+            String filename,
+            String mode,
+            long rowsProcessed,
+            long rowsSucceeded,
+            long rowsRejected,
+            long rowsDuplicated,
+            int chunksCommitted,
+            Double rowsPerSecond,
+            Long etaSeconds,
+            String message,
+            LocalDateTime createdAt,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
     ) implements BillResponseDTO {}
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.github.djoarns.payflow.application.bill.mapper;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.dto.request.BillRequestDTO;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,13 +31,28 @@ public class BillRequestMapper {
         return new BillCommand.Pay(id, dto.paymentDate());
     }
 
+    public BillCommand.PayAll toPayAllCommand(BillRequestDTO.PayAll dto) {
+        return new BillCommand.PayAll(dto.ids(), dto.paymentDate());
+    }
+
     public BillCommand.List toListCommand(BillRequestDTO.Search dto) {
         return new BillCommand.List(
                 dto.startDate(),
                 dto.endDate(),
                 dto.description(),
                 dto.page(),
-                dto.size()
+                dto.size(),
+                dto.pagination() != null ? dto.pagination() : PaginationMode.OFFSET,
+                dto.cursor() != null ? BillCursor.of(dto.cursor()) : null,
+                dto.total() != null ? dto.total() : TotalMode.EXACT
+        );
+    }
+
+    public BillCommand.Search toSearchCommand(BillRequestDTO.TextSearch dto) {
+        return new BillCommand.Search(
+                dto.query(),
+                dto.size(),
+                dto.cursor() != null ? SearchCursor.of(dto.cursor()) : null
         );
     }
 
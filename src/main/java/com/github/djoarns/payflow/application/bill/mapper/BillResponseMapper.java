@@ -1,12 +1,16 @@
 package com.github.djoarns.payflow.application.bill.mapper;
 
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.dto.response.BillResponseDTO;
 import com.github.djoarns.payflow.application.bill.result.BillImportResult;
 import com.github.djoarns.payflow.application.bill.result.BillResult;
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Component
 public class BillResponseMapper {
@@ -26,14 +30,31 @@ public class BillResponseMapper {
                 .map(this::toResponseDTO)
                 .toList();
 
+        var omitted = result.totalMode() == TotalMode.OMITTED;
+
         return new BillResponseDTO.Page(
                 content,
-                result.totalElements(),
-                (int) result.getTotalPages(),
+                omitted ? null : result.totalElements(),
+                omitted ? null : (int) result.getTotalPages(),
+                result.totalMode().name(),
                 result.currentPage(),
                 result.pageSize(),
                 result.hasNext(),
-                result.hasPrevious()
+                result.hasPrevious(),
+                result.nextCursor() != null ? result.nextCursor().toToken() : null
+        );
+    }
+
+    public BillResponseDTO.SearchPage toSearchPageDTO(BillResult.SearchPage result) {
+        var content = result.hits().stream()
+                .map(hit -> new BillResponseDTO.SearchHit(toResponseDTO(hit.bill()), hit.rank()))
+                .toList();
+
+        return new BillResponseDTO.SearchPage(
+                content,
+                result.pageSize(),
+                result.hasNext(),
+                result.nextCursor() != null ? result.nextCursor().toToken() : null
         );
     }
 
@@ -44,17 +65,61 @@ public class BillResponseMapper {
     ) {
         return new BillResponseDTO.TotalPaid(
                 result.totalPaid() != null ? result.totalPaid().getValue() : null,
+                result.billCount(),
                 startDate,
                 endDate
         );
     }
 
+    public BillResponseDTO.PayAll toPayAllDTO(BillResult.PayAll result) {
+        return new BillResponseDTO.PayAll(
+                result.paid().size(),
+                result.paid().stream()
+                        .map(bill -> bill.getId().getValue())
+                        .toList(),
+                result.rejected().stream()
+                        .map(rejection -> new BillResponseDTO.PayRejection(rejection.id(), rejection.reason()))
+                        .toList()
+        );
+    }
+
     public BillResponseDTO.Import toImportDTO(BillImportResult result) {
         return new BillResponseDTO.Import(
                 result.totalProcessed(),
                 result.successCount(),
                 result.errorCount(),
-                result.message()
+                result.duplicateCount(),
+                result.chunksCommitted(),
+                result.message(),
+                result.rejections().stream()
+                        .map(rejection -> new BillResponseDTO.Rejection(
+                                rejection.line(),
+                                rejection.column(),
+                                rejection.reason()
+                        ))
+                        .toList(),
+                result.rejectionsTruncated()
+        );
+    }
+
+    public BillResponseDTO.ImportJob toImportJobDTO(BillImportJob job, LocalDateTime now) {
+        Duration eta = job.estimatedRemaining(now);
+        return new BillResponseDTO.ImportJob(
+                job.getId(),
+                job.getStatus().name(),
+                job.getFilename(),
+                job.getMode(),
+                job.getRowsProcessed(),
+                job.getRowsSucceeded(),
+                job.getRowsRejected(),
+                job.getRowsDuplicated(),
+                job.getChunksCommitted(),
+                job.rowsPerSecond(now),
+                eta != null ? eta.toSeconds() : null,
+                job.getMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
         );
     }
-}
\ No newline at end of file
+}
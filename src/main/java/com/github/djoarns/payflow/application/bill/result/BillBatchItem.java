@@ -0,0 +1,15 @@
+package com.github.djoarns.payflow.application.bill.result;
+
+public record BillBatchItem(long index, int status, Long id, String error) {
+    public static BillBatchItem created(long index, Long id) {
+        return new BillBatchItem(index, 201, id, null);
+    }
+
+    public static BillBatchItem rejected(long index, String error) {
+        return new BillBatchItem(index, 400, null, error);
+    }
+
+    public static BillBatchItem failed(long index, String error) {
+        return new BillBatchItem(index, 500, null, error);
+    }
+}
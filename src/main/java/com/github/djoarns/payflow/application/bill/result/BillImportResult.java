@@ -1,8 +1,24 @@
 package com.github.djoarns.payflow.application.bill.result;
 
+import com.github.djoarns.payflow.domain.bill.BillImportRejection;
+
+import java.util.List;
+
 public record BillImportResult(
         int totalProcessed,
         int successCount,
         int errorCount,
-        String message
-) {}
\ No newline at end of file
+        int duplicateCount,
+        int chunksCommitted,
+        String message,
+        List<BillImportRejection> rejections,
+        boolean rejectionsTruncated
+) {
+    public BillImportResult(int totalProcessed, int successCount, int errorCount, int chunksCommitted, String message) {
+        this(totalProcessed, successCount, errorCount, 0, chunksCommitted, message, List.of(), false);
+    }
+
+    public BillImportResult(int totalProcessed, int successCount, int errorCount, String message) {
+        this(totalProcessed, successCount, errorCount, 0, message);
+    }
+}
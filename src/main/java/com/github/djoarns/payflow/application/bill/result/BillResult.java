@@ -1,27 +1,52 @@
 package com.github.djoarns.payflow.application.bill.result;
 
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillSearchHit;
 import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
 
 public sealed interface BillResult permits
         BillResult.Single,
+        BillResult.PayAll,
         BillResult.List,
-        BillResult.TotalPaid {
+        BillResult.SearchPage,
+        BillResult.TotalPaid,
+        BillResult.Batch {
 
     record Single(Bill bill) implements BillResult {}
 
+    record PayAll(
+            java.util.List<Bill> paid,
+            java.util.List<Rejection> rejected
+    ) implements BillResult {
+        public record Rejection(long id, String reason) {}
+    }
+
     record List(
             java.util.List<Bill> bills,
             long totalElements,
             int currentPage,
-            int pageSize
+            int pageSize,
+            boolean hasNext,
+            BillCursor nextCursor,
+            TotalMode totalMode
     ) implements BillResult {
-        public long getTotalPages() {
-            return (totalElements + pageSize - 1) / pageSize;
+        public List(java.util.List<Bill> bills, long totalElements, int currentPage, int pageSize) {
+            this(
+                    bills,
+                    totalElements,
+                    currentPage,
+                    pageSize,
+                    currentPage < (totalElements + pageSize - 1) / pageSize - 1,
+                    null,
+                    TotalMode.EXACT
+            );
         }
 
-        public boolean hasNext() {
-            return currentPage < getTotalPages() - 1;
+        public long getTotalPages() {
+            return (totalElements + pageSize - 1) / pageSize;
         }
 
         public boolean hasPrevious() {
@@ -29,5 +54,14 @@ public sealed interface BillResult permits
         }
     }
 
-    record TotalPaid(Amount totalPaid) implements BillResult {}
+    record SearchPage(
+            java.util.List<BillSearchHit> hits,
+            int pageSize,
+            boolean hasNext,
+            SearchCursor nextCursor
+    ) implements BillResult {}
+
+    record TotalPaid(Amount totalPaid, long billCount) implements BillResult {}
+
+    record Batch(long created, long rejected, long failed) implements BillResult {}
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillBulkLoadRepository;
+import com.github.djoarns.payflow.domain.bill.BillFingerprintRepository;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillFingerprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists one chunk of imported bills, dropping rows whose fingerprint was already imported or
+ * repeats within the chunk. Returns the number of bills written; callers own the transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BillChunkWriter {
+    private final BillRepository billRepository;
+    private final BillBulkLoadRepository billBulkLoadRepository;
+    private final BillFingerprintRepository billFingerprintRepository;
+
+    public int write(List<Bill> chunk, ImportMode mode) {
+        Map<BillFingerprint, Bill> byFingerprint = new LinkedHashMap<>(chunk.size() * 2);
+        for (Bill bill : chunk) {
+            byFingerprint.putIfAbsent(bill.fingerprint(), bill);
+        }
+
+        var claimed = billFingerprintRepository.claim(byFingerprint.keySet());
+        List<Bill> fresh = byFingerprint.entrySet().stream()
+                .filter(entry -> claimed.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        return mode == ImportMode.COPY
+                ? billBulkLoadRepository.load(fresh)
+                : billRepository.saveAll(fresh).size();
+    }
+}
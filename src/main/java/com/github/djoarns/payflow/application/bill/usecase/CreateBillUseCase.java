@@ -18,21 +18,22 @@ import java.time.LocalDate;
 @Service
 @RequiredArgsConstructor
 public class CreateBillUseCase {
-    private static final BigDecimal MAX_AMOUNT = new BigDecimal("999999999.99");
     private final BillRepository billRepository;
 
     @Transactional
     public BillResult.Single execute(BillCommand.Create command) {
+        return new BillResult.Single(billRepository.save(prepare(command)));
+    }
+
+    public Bill prepare(BillCommand.Create command) {
         validateDueDate(command.dueDate());
         validateAmount(command.amount());
 
-        var bill = Bill.create(
+        return Bill.create(
                 DueDate.of(command.dueDate()),
                 Amount.of(command.amount()),
                 Description.of(command.description())
         );
-
-        return new BillResult.Single(billRepository.save(bill));
     }
 
     private void validateDueDate(LocalDate dueDate) {
@@ -60,9 +61,5 @@ public class CreateBillUseCase {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidBillDataException("Amount must be greater than zero");
         }
-
-        if (amount.compareTo(MAX_AMOUNT) > 0) {
-            throw new InvalidBillDataException("Amount cannot be greater than 999999999.99");
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.result.BillBatchItem;
+import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonExporter;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates bills from an NDJSON stream. Rows are validated like single creates, saved in one
+ * batched transaction per chunk, and their results are written back in input order as each
+ * chunk commits.
+ */
+@Slf4j
+@Service
+public class CreateBillsBatchUseCase {
+    private final CreateBillUseCase createBillUseCase;
+    private final BillRepository billRepository;
+    private final BillNdjsonReader ndjsonReader;
+    private final BillNdjsonExporter ndjsonExporter;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CreateBillsBatchUseCase(
+            CreateBillUseCase createBillUseCase,
+            BillRepository billRepository,
+            BillNdjsonReader ndjsonReader,
+            BillNdjsonExporter ndjsonExporter,
+            TransactionTemplate transactionTemplate,
+            @Value("${payflow.bills.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.createBillUseCase = createBillUseCase;
+        this.billRepository = billRepository;
+        this.ndjsonReader = ndjsonReader;
+        this.ndjsonExporter = ndjsonExporter;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public BillResult.Batch execute(InputStream inputStream, OutputStream outputStream) throws IOException {
+        var chunk = new Chunk(outputStream);
+        ndjsonReader.read(inputStream, row -> {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                chunk.flush();
+            }
+        });
+        chunk.flush();
+
+        log.debug("Batch create finished: {} created, {} rejected, {} failed", chunk.created, chunk.rejected, chunk.failed);
+        return new BillResult.Batch(chunk.created, chunk.rejected, chunk.failed);
+    }
+
+    private final class Chunk {
+        private final OutputStream outputStream;
+        private final List<BillBatchItem> items = new ArrayList<>();
+        private final List<Integer> positions = new ArrayList<>();
+        private final List<Bill> bills = new ArrayList<>();
+        private long created;
+        private long rejected;
+        private long failed;
+
+        private Chunk(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        void add(BillNdjsonReader.Row row) {
+            if (row.error() != null) {
+                reject(row.index(), row.error());
+                return;
+            }
+            try {
+                bills.add(createBillUseCase.prepare(
+                        new BillCommand.Create(row.dueDate(), row.amount(), row.description())
+                ));
+                positions.add(items.size());
+                items.add(BillBatchItem.created(row.index(), null));
+            } catch (InvalidBillDataException e) {
+                reject(row.index(), e.getMessage());
+            }
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        void flush() throws IOException {
+            if (items.isEmpty()) {
+                return;
+            }
+            if (!bills.isEmpty()) {
+                save();
+            }
+            ndjsonExporter.exportBatchItems(items, outputStream);
+            items.clear();
+            positions.clear();
+            bills.clear();
+        }
+
+        private void save() {
+            try {
+                var saved = transactionTemplate.execute(status -> billRepository.saveAll(bills));
+                for (int i = 0; i < saved.size(); i++) {
+                    int position = positions.get(i);
+                    items.set(position, BillBatchItem.created(items.get(position).index(), saved.get(i).getId().getValue()));
+                }
+                created += saved.size();
+            } catch (RuntimeException e) {
+                log.error("Error saving batch of {} bills", bills.size(), e);
+                for (int position : positions) {
+                    items.set(position, BillBatchItem.failed(items.get(position).index(), "Error saving bill: " + e.getMessage()));
+                }
+                failed += bills.size();
+            }
+        }
+
+        private void reject(long index, String error) {
+            items.add(BillBatchItem.rejected(index, error));
+            rejected++;
+        }
+    }
+}
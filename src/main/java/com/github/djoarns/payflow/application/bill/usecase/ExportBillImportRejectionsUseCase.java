@@ -0,0 +1,23 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ExportBillImportRejectionsUseCase {
+    private final BillImportJobRepository jobRepository;
+    private final BillCSVExporter csvExporter;
+
+    @Transactional(readOnly = true)
+    public long execute(UUID jobId, OutputStream outputStream) throws IOException {
+        return csvExporter.exportRejections(jobRepository.findRejections(jobId), outputStream);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.ExportFormat;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVExporter;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonExporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportBillsUseCase {
+    private final BillRepository billRepository;
+    private final BillCSVExporter csvExporter;
+    private final BillNdjsonExporter ndjsonExporter;
+
+    @Transactional(readOnly = true)
+    public long execute(BillCommand.Export command, OutputStream outputStream) throws IOException {
+        if (command.startDate().isAfter(command.endDate())) {
+            throw new InvalidBillDataException("Start date must not be after end date");
+        }
+
+        try (var bills = billRepository.streamByDueDateBetween(command.startDate(), command.endDate())) {
+            var rows = command.format() == ExportFormat.NDJSON
+                    ? ndjsonExporter.export(bills, outputStream)
+                    : csvExporter.export(bills, outputStream);
+            log.debug("Exported {} bills due between {} and {}", rows, command.startDate(), command.endDate());
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class FindBillImportJobUseCase {
+    private final BillImportJobRepository jobRepository;
+
+    public BillImportJob execute(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new InvalidBillDataException("Import job not found"));
+    }
+}
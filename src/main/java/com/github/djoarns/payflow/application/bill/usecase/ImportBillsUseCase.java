@@ -1,50 +1,111 @@
 package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.ImportBillsCommand;
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
 import com.github.djoarns.payflow.application.bill.result.BillImportResult;
 import com.github.djoarns.payflow.infrastructure.csv.BillCSVImporter;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVRejections;
+import com.github.djoarns.payflow.infrastructure.importjob.Sha256InputStream;
 import com.github.djoarns.payflow.domain.bill.Bill;
-import com.github.djoarns.payflow.domain.bill.BillRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.djoarns.payflow.domain.bill.BillImportFileRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImportBillsUseCase {
-    private final BillRepository billRepository;
+    private final BillChunkWriter chunkWriter;
+    private final BillImportFileRepository billImportFileRepository;
     private final BillCSVImporter csvImporter;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRejections;
 
-    @Transactional
-    public BillImportResult execute(ImportBillsCommand command) {
-        try {
-            List<Bill> bills = csvImporter.importBills(command.file());
+    public ImportBillsUseCase(
+            BillChunkWriter chunkWriter,
+            BillImportFileRepository billImportFileRepository,
+            BillCSVImporter csvImporter,
+            TransactionTemplate transactionTemplate,
+            @Value("${payflow.bills.import.chunk-size:5000}") int chunkSize,
+            @Value("${payflow.bills.import.max-rejections:1000}") int maxRejections
+    ) {
+        this.chunkWriter = chunkWriter;
+        this.billImportFileRepository = billImportFileRepository;
+        this.csvImporter = csvImporter;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxRejections = maxRejections;
+    }
 
-            if (bills.isEmpty()) {
-                return new BillImportResult(0, 0, 0, "No bills found in CSV file");
-            }
+    public BillImportResult execute(ImportBillsCommand command) {
+        if (command.sha256() != null && billImportFileRepository.exists(command.sha256())) {
+            return new BillImportResult(0, 0, 0, 0, "File already imported");
+        }
 
-            List<Bill> savedBills = billRepository.saveAll(bills);
+        var progress = new Progress();
+        var rejections = new BillCSVRejections(maxRejections);
+        try {
+            var file = new Sha256InputStream(command.file());
+            var summary = csvImporter.importBills(file, chunkSize, 0, rejections,
+                    (chunk, chunkProgress) -> {
+                        progress.rows = chunkProgress.totalRows();
+                        saveChunk(chunk, command.mode(), progress);
+                    });
+            transactionTemplate.executeWithoutResult(status ->
+                    billImportFileRepository.record(file.hex(), command.filename(), LocalDateTime.now()));
 
             return new BillImportResult(
-                    bills.size(),
-                    savedBills.size(),
-                    bills.size() - savedBills.size(),
-                    "Import completed successfully"
+                    summary.totalRows(),
+                    progress.saved,
+                    summary.invalidRows(),
+                    progress.duplicates,
+                    progress.chunks,
+                    message(progress),
+                    rejections.kept(),
+                    rejections.truncated()
             );
 
         } catch (Exception e) {
-            log.error("Error importing bills from CSV", e);
+            log.error("Error importing bills from CSV after {} committed rows", progress.saved, e);
+            int errors = Math.max(progress.rows - progress.saved - progress.duplicates, (int) rejections.count());
             return new BillImportResult(
-                    0,
-                    0,
-                    0,
-                    "Error importing bills: " + e.getMessage()
+                    progress.saved + progress.duplicates + errors,
+                    progress.saved,
+                    errors,
+                    progress.duplicates,
+                    progress.chunks,
+                    "Error importing bills: " + e.getMessage(),
+                    rejections.kept(),
+                    rejections.truncated()
             );
         }
     }
-}
\ No newline at end of file
+
+    private String message(Progress progress) {
+        if (progress.saved > 0) {
+            return "Import completed successfully";
+        }
+        return progress.duplicates > 0 ? "All bills in CSV file were already imported" : "No bills found in CSV file";
+    }
+
+    private void saveChunk(List<Bill> chunk, ImportMode mode, Progress progress) {
+        Integer saved = transactionTemplate.execute(status -> chunkWriter.write(chunk, mode));
+        int written = saved != null ? saved : 0;
+        progress.saved += written;
+        progress.duplicates += chunk.size() - written;
+        progress.chunks++;
+        log.debug("Committed import chunk {} ({} bills so far)", progress.chunks, progress.saved);
+    }
+
+    private static final class Progress {
+        private int rows;
+        private int saved;
+        private int duplicates;
+        private int chunks;
+    }
+}
@@ -1,33 +1,109 @@
 package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.Bill;
 import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
+import com.github.djoarns.payflow.infrastructure.cache.BillCountCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ListBillsUseCase {
     private final BillRepository billRepository;
+    private final BillCountCache billCountCache;
 
     @Transactional(readOnly = true)
     public BillResult.List execute(BillCommand.List command) {
+        if (command.pagination() == PaginationMode.KEYSET) {
+            return executeKeyset(command);
+        }
+
+        var offset = (long) command.page() * command.size();
         var bills = billRepository.findByDueDateBetweenAndDescription(
                 command.startDate(),
                 command.endDate(),
                 command.description(),
-                command.page(),
-                command.size()
+                offset,
+                command.size() + 1
         );
 
-        var total = billRepository.countByDueDateBetweenAndDescription(
+        var hasNext = bills.size() > command.size();
+        var page = trim(bills, command.size());
+        // An empty page past the end says nothing about how many rows precede it.
+        Long seen = !hasNext && (!page.isEmpty() || offset == 0) ? offset + page.size() : null;
+
+        return toResult(command, page, command.page(), hasNext, null, seen);
+    }
+
+    private BillResult.List executeKeyset(BillCommand.List command) {
+        var bills = billRepository.findByDueDateBetweenAndDescriptionAfter(
                 command.startDate(),
                 command.endDate(),
-                command.description()
+                command.description(),
+                command.after(),
+                command.size() + 1
         );
 
-        return new BillResult.List(bills, total, command.page(), command.size());
+        var hasNext = bills.size() > command.size();
+        var page = trim(bills, command.size());
+        BillCursor nextCursor = null;
+        if (hasNext) {
+            var last = page.get(page.size() - 1);
+            nextCursor = BillCursor.of(last.getDueDate().getValue(), last.getId().getValue());
+        }
+        Long seen = !hasNext && command.after() == null ? (long) page.size() : null;
+
+        return toResult(command, page, 0, hasNext, nextCursor, seen);
+    }
+
+    private BillResult.List toResult(
+            BillCommand.List command,
+            List<Bill> page,
+            int currentPage,
+            boolean hasNext,
+            BillCursor nextCursor,
+            Long knownTotal
+    ) {
+        var mode = command.total() != null ? command.total() : TotalMode.EXACT;
+        long total;
+        if (knownTotal != null) {
+            mode = TotalMode.EXACT;
+            total = knownTotal;
+        } else if (mode == TotalMode.EXACT) {
+            total = billCountCache.get(
+                    command.startDate(),
+                    command.endDate(),
+                    command.description(),
+                    () -> billRepository.countByDueDateBetweenAndDescription(
+                            command.startDate(),
+                            command.endDate(),
+                            command.description()
+                    )
+            );
+        } else if (mode == TotalMode.ESTIMATED) {
+            var estimate = billRepository.estimateCountByDueDateBetweenAndDescription(
+                    command.startDate(),
+                    command.endDate(),
+                    command.description()
+            );
+            var lowerBound = (long) currentPage * command.size() + page.size() + (hasNext ? 1 : 0);
+            total = Math.max(estimate, lowerBound);
+        } else {
+            total = 0;
+        }
+
+        return new BillResult.List(page, total, currentPage, command.size(), hasNext, nextCursor, mode);
+    }
+
+    private List<Bill> trim(List<Bill> bills, int size) {
+        return bills.size() > size ? bills.subList(0, size) : bills;
     }
-}
\ No newline at end of file
+}
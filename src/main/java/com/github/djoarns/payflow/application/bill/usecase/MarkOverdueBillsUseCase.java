@@ -0,0 +1,71 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Moves PENDING bills past their due date to OVERDUE in short batches, one transaction each, so
+ * no sweep holds row locks for long. Rows locked by a payment or another sweeper are skipped and
+ * picked up on the next run.
+ */
+@Slf4j
+@Service
+public class MarkOverdueBillsUseCase {
+    private final BillRepository billRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter transitioned;
+    private final Timer sweepTimer;
+
+    public MarkOverdueBillsUseCase(
+            BillRepository billRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payflow.bills.overdue-sweep.batch-size:1000}") int batchSize,
+            @Value("${payflow.bills.overdue-sweep.max-batches:1000}") int maxBatches
+    ) {
+        this.billRepository = billRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.transitioned = Counter.builder("payflow.bills.overdue.transitioned")
+                .description("Bills moved from PENDING to OVERDUE by the sweep")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("payflow.bills.overdue.sweep")
+                .description("Duration of overdue sweeps")
+                .register(meterRegistry);
+    }
+
+    public long execute() {
+        return sweepTimer.record(() -> sweep(LocalDate.now()));
+    }
+
+    private long sweep(LocalDate today) {
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer updated = transactionTemplate.execute(status -> billRepository.markOverdue(today, batchSize));
+            int count = updated != null ? updated : 0;
+            transitioned.increment(count);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Marked {} bills due before {} as OVERDUE", total, today);
+        } else {
+            log.debug("No PENDING bills due before {}", today);
+        }
+        return total;
+    }
+}
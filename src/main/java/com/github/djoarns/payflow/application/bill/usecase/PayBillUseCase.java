@@ -2,10 +2,12 @@ package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
 import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
 import com.github.djoarns.payflow.domain.bill.BillRepository;
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
 import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
 import com.github.djoarns.payflow.domain.bill.valueobject.PaymentDate;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PayBillUseCase {
     private final BillRepository billRepository;
+    private final BillDailyTotalRepository billDailyTotalRepository;
+    private final PaidTotalsIndex paidTotalsIndex;
 
     @Transactional
     public BillResult.Single execute(BillCommand.Pay command) {
@@ -22,6 +26,16 @@ public class PayBillUseCase {
 
         bill.pay(PaymentDate.of(command.paymentDate()));
 
-        return new BillResult.Single(billRepository.save(bill));
+        var savedBill = billRepository.save(bill);
+        billDailyTotalRepository.addPayment(
+                savedBill.getPaymentDate().getValue(),
+                savedBill.getAmount()
+        );
+        paidTotalsIndex.recordPayment(
+                savedBill.getPaymentDate().getValue(),
+                savedBill.getAmount()
+        );
+
+        return new BillResult.Single(savedBill);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillBulkPayRepository;
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaymentDate;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class PayBillsUseCase {
+    private final BillBulkPayRepository billBulkPayRepository;
+    private final BillDailyTotalRepository billDailyTotalRepository;
+    private final PaidTotalsIndex paidTotalsIndex;
+
+    @Transactional
+    public BillResult.PayAll execute(BillCommand.PayAll command) {
+        if (command.ids() == null || command.ids().isEmpty()) {
+            throw new InvalidBillDataException("At least one bill id is required");
+        }
+        var paymentDate = PaymentDate.of(command.paymentDate());
+        var ids = new LinkedHashSet<BillId>();
+        command.ids().stream()
+                .filter(Objects::nonNull)
+                .map(BillId::of)
+                .forEach(ids::add);
+
+        var paid = billBulkPayRepository.payAll(ids, paymentDate);
+        var unpaid = new LinkedHashSet<>(ids);
+        paid.forEach(bill -> unpaid.remove(bill.getId()));
+        var statuses = billBulkPayRepository.findStatuses(unpaid);
+
+        List<BillResult.PayAll.Rejection> rejected = new ArrayList<>(unpaid.size());
+        for (BillId id : unpaid) {
+            var status = statuses.get(id);
+            rejected.add(new BillResult.PayAll.Rejection(
+                    id.getValue(),
+                    status == null ? "Bill not found" : "Bill cannot be paid in current status: " + status
+            ));
+        }
+
+        if (!paid.isEmpty()) {
+            var total = paid.stream()
+                    .map(Bill::getAmount)
+                    .reduce(Amount.zero(), Amount::add);
+            billDailyTotalRepository.addPayments(paymentDate.getValue(), total, paid.size());
+            paidTotalsIndex.recordPayments(paymentDate.getValue(), total, paid.size());
+        }
+
+        return new BillResult.PayAll(paid, rejected);
+    }
+}
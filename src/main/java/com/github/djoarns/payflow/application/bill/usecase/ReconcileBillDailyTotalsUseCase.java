@@ -0,0 +1,28 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconcileBillDailyTotalsUseCase {
+    private final BillDailyTotalRepository billDailyTotalRepository;
+    private final PaidTotalsIndex paidTotalsIndex;
+
+    @Transactional
+    public int execute() {
+        var repairedDays = billDailyTotalRepository.reconcile();
+        if (repairedDays > 0) {
+            log.warn("Repaired {} drifted days in bill daily totals", repairedDays);
+        } else {
+            log.debug("Bill daily totals are consistent with bills");
+        }
+        paidTotalsIndex.rebuild();
+        return repairedDays;
+    }
+}
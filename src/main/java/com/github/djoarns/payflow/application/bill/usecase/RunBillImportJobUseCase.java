@@ -0,0 +1,127 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.domain.bill.BillImportFileRepository;
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.infrastructure.cluster.ClusterCoordinator;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVImporter;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVRejections;
+import com.github.djoarns.payflow.infrastructure.importjob.BillImportSpool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class RunBillImportJobUseCase {
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final BillImportJobRepository jobRepository;
+    private final BillImportFileRepository billImportFileRepository;
+    private final BillImportSpool spool;
+    private final BillCSVImporter csvImporter;
+    private final BillChunkWriter chunkWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterCoordinator clusterCoordinator;
+    private final int chunkSize;
+    private final int maxRejections;
+    private final Duration staleAfter;
+
+    public RunBillImportJobUseCase(
+            BillImportJobRepository jobRepository,
+            BillImportFileRepository billImportFileRepository,
+            BillImportSpool spool,
+            BillCSVImporter csvImporter,
+            BillChunkWriter chunkWriter,
+            TransactionTemplate transactionTemplate,
+            ClusterCoordinator clusterCoordinator,
+            @Value("${payflow.bills.import.chunk-size:5000}") int chunkSize,
+            @Value("${payflow.bills.import.max-rejections:1000}") int maxRejections,
+            @Value("${payflow.bills.import.stale-after}") Duration staleAfter
+    ) {
+        this.jobRepository = jobRepository;
+        this.billImportFileRepository = billImportFileRepository;
+        this.spool = spool;
+        this.csvImporter = csvImporter;
+        this.chunkWriter = chunkWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterCoordinator = clusterCoordinator;
+        this.chunkSize = chunkSize;
+        this.maxRejections = maxRejections;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Runs the job if it can be claimed. A resumed job skips the rows its committed chunks
+     * already cover, because progress is saved in the same transaction as each chunk. The job's
+     * cluster lease keeps a worker that only looks stale, say after a long pause, from being
+     * joined by a second one.
+     */
+    public void execute(UUID jobId) {
+        var lease = clusterCoordinator.tryAcquire("bill-import:" + jobId);
+        if (lease.isEmpty()) {
+            log.debug("Import job {} is running on another worker", jobId);
+            return;
+        }
+        try (var held = lease.get()) {
+            run(jobId);
+        }
+    }
+
+    private void run(UUID jobId) {
+        var claimedAt = LocalDateTime.now();
+        if (!jobRepository.claim(jobId, claimedAt, claimedAt.minus(staleAfter))) {
+            log.debug("Import job {} is owned by another worker or already finished", jobId);
+            return;
+        }
+        var job = jobRepository.findById(jobId).orElseThrow();
+        var mode = ImportMode.valueOf(job.getMode());
+        var baseRows = job.getRowsProcessed();
+        var baseRejected = job.getRowsRejected();
+        var rejections = new BillCSVRejections((int) Math.max(maxRejections - baseRejected, 0));
+
+        try (var in = spool.open(job.getSpoolPath())) {
+            var summary = csvImporter.importBills(in, chunkSize, baseRows, rejections, (chunk, progress) ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        var saved = chunkWriter.write(chunk, mode);
+                        jobRepository.saveRejections(jobId, rejections.drain());
+                        job.recordChunk(
+                                baseRows + progress.totalRows(),
+                                baseRejected + progress.invalidRows(),
+                                saved,
+                                chunk.size() - saved,
+                                in.getCount(),
+                                LocalDateTime.now()
+                        );
+                        jobRepository.save(job);
+                    }));
+
+            job.complete(baseRows + summary.totalRows(), baseRejected + summary.invalidRows(), LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> {
+                jobRepository.saveRejections(jobId, rejections.drain());
+                jobRepository.save(job);
+                if (job.getFileSha256() != null) {
+                    billImportFileRepository.record(job.getFileSha256(), job.getFilename(), job.getFinishedAt());
+                }
+            });
+            spool.delete(job.getSpoolPath());
+            log.info("Import job {} completed: {} rows, {} imported, {} rejected, {} duplicates",
+                    jobId, job.getRowsProcessed(), job.getRowsSucceeded(), job.getRowsRejected(), job.getRowsDuplicated());
+        } catch (Exception e) {
+            if (Thread.interrupted()) {
+                log.warn("Import job {} interrupted after {} rows, it will resume once stale", jobId, job.getRowsProcessed());
+                return;
+            }
+            log.error("Import job {} failed after {} committed rows", jobId, job.getRowsProcessed(), e);
+            var message = "Error importing bills: " + e.getMessage();
+            job.fail(message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message, LocalDateTime.now());
+            jobRepository.save(job);
+            spool.delete(job.getSpoolPath());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SearchBillsUseCase {
+    private static final int MAX_QUERY_LENGTH = 255;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BillRepository billRepository;
+
+    @Transactional(readOnly = true)
+    public BillResult.SearchPage execute(BillCommand.Search command) {
+        validate(command);
+
+        var hits = billRepository.searchByDescription(
+                command.query().trim(),
+                command.after(),
+                command.size() + 1
+        );
+
+        var hasNext = hits.size() > command.size();
+        var page = hasNext ? hits.subList(0, command.size()) : hits;
+        SearchCursor nextCursor = null;
+        if (hasNext) {
+            var last = page.get(page.size() - 1);
+            nextCursor = SearchCursor.of(last.rank(), last.bill().getId().getValue());
+        }
+
+        return new BillResult.SearchPage(page, command.size(), hasNext, nextCursor);
+    }
+
+    private void validate(BillCommand.Search command) {
+        if (command.query() == null || command.query().isBlank()) {
+            throw new InvalidBillDataException("Search query is required");
+        }
+        if (command.query().length() > MAX_QUERY_LENGTH) {
+            throw new InvalidBillDataException("Search query cannot exceed 255 characters");
+        }
+        if (command.size() <= 0 || command.size() > MAX_PAGE_SIZE) {
+            throw new InvalidBillDataException("Page size must be between 1 and 100");
+        }
+    }
+}
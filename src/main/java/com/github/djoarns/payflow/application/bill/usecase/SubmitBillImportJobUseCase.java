@@ -0,0 +1,60 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.ImportBillsCommand;
+import com.github.djoarns.payflow.domain.bill.BillImportFileRepository;
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.infrastructure.importjob.BillImportSpool;
+import com.github.djoarns.payflow.infrastructure.scheduling.BillImportJobDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SubmitBillImportJobUseCase {
+    private final BillImportJobRepository jobRepository;
+    private final BillImportSpool spool;
+    private final BillImportJobDispatcher dispatcher;
+    private final BillImportFileRepository billImportFileRepository;
+
+    public BillImportJob execute(ImportBillsCommand command) throws IOException {
+        var jobId = UUID.randomUUID();
+        var spooled = spool.spool(jobId, command.file());
+        var spoolPath = spooled.path().toString();
+
+        if (billImportFileRepository.exists(spooled.sha256())) {
+            spool.delete(spoolPath);
+            return jobRepository.save(BillImportJob.alreadyImported(
+                    jobId,
+                    command.filename(),
+                    spoolPath,
+                    command.mode().name(),
+                    spooled.sha256(),
+                    spooled.size(),
+                    LocalDateTime.now()
+            ));
+        }
+
+        BillImportJob job;
+        try {
+            job = jobRepository.save(BillImportJob.queue(
+                    jobId,
+                    command.filename(),
+                    spoolPath,
+                    command.mode().name(),
+                    spooled.sha256(),
+                    spooled.size(),
+                    LocalDateTime.now()
+            ));
+        } catch (RuntimeException e) {
+            spool.delete(spoolPath);
+            throw e;
+        }
+        dispatcher.dispatch(jobId);
+        return job;
+    }
+}
@@ -7,7 +7,9 @@ import com.github.djoarns.payflow.domain.bill.exception.InvalidBillOperationExce
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillStatusException;
 import com.github.djoarns.payflow.domain.user.exception.InvalidUserDataException;
 import com.github.djoarns.payflow.domain.user.exception.InvalidUserOperationException;
+import com.github.djoarns.payflow.infrastructure.security.PasswordHashingUnavailableException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -73,6 +75,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(new ErrorResponseDTO(
+                        "Authentication service is busy, please retry later",
+                        "SERVICE_UNAVAILABLE",
+                        LocalDateTime.now()
+                ));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDTO> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -11,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +19,7 @@ public class AuthenticateUserUseCase {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
 
-    @Transactional(readOnly = true)
+    // Not transactional: password hashing may wait in its queue, and must not hold a connection meanwhile
     public AuthResult.Authentication execute(AuthCommand.Login command) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -12,7 +12,6 @@ import com.github.djoarns.payflow.infrastructure.security.user.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +20,8 @@ public class RegisterUserUseCase {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
 
-    @Transactional
+    // Not transactional: encoding may wait in the hashing queue; the unique username column still
+    // rejects a concurrent registration of the same name
     public AuthResult.Authentication execute(AuthCommand.Register command) {
         var username = Username.of(command.username());
 
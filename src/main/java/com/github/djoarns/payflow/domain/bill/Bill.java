@@ -6,9 +6,15 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Bill {
+    // bills.amount is DECIMAL(10,2): a larger amount would fail the insert of its whole batch
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+
     private BillId id;
     private DueDate dueDate;
     private PaymentDate paymentDate;
@@ -20,6 +26,7 @@ public class Bill {
         if (dueDate == null || amount == null || description == null) {
             throw new InvalidBillDataException("All bill data must be provided");
         }
+        validateAmount(amount);
 
         return new Bill(
                 null,
@@ -56,12 +63,19 @@ public class Bill {
         if (!isActionable()) {
             throw new InvalidBillStatusException("Bill cannot be modified in current status: " + this.status);
         }
+        validateAmount(newAmount);
 
         this.dueDate = newDueDate;
         this.amount = newAmount;
         this.description = newDescription;
     }
 
+    private static void validateAmount(Amount amount) {
+        if (amount.getValue().setScale(2, RoundingMode.HALF_UP).compareTo(MAX_AMOUNT) > 0) {
+            throw new InvalidBillDataException("Amount cannot be greater than " + MAX_AMOUNT);
+        }
+    }
+
     public void cancel() {
         if (!isActionable()) {
             throw new InvalidBillStatusException("Bill cannot be cancelled in current status: " + this.status);
@@ -69,6 +83,10 @@ public class Bill {
         this.status = Status.CANCELLED;
     }
 
+    public BillFingerprint fingerprint() {
+        return BillFingerprint.of(dueDate, amount, description);
+    }
+
     public static Bill reconstitute(
             BillId id,
             DueDate dueDate,
@@ -0,0 +1,7 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import java.util.List;
+
+public interface BillBulkLoadRepository {
+    int load(List<Bill> bills);
+}
@@ -0,0 +1,95 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loads new bills with COPY into a session-local staging table, then moves them into {@code bills}
+ * with one INSERT. Ids are drawn in blocks of {@link #ID_BLOCK_SIZE} so they stay compatible with
+ * the pooled-lo allocation used by {@code BillJpaEntity}. Must run inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillBulkLoadRepositoryImpl implements BillBulkLoadRepository {
+    static final int ID_BLOCK_SIZE = 100;
+
+    static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS bills_staging (
+                line BIGINT NOT NULL,
+                due_date DATE NOT NULL,
+                amount DECIMAL(10,2) NOT NULL,
+                description VARCHAR(255) NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+    static final String CLEAR_STAGING = "TRUNCATE bills_staging";
+    static final String COPY_STAGING = "COPY bills_staging (line, due_date, amount, description) FROM STDIN WITH (FORMAT csv)";
+    static final String MOVE_STAGED = """
+            INSERT INTO bills (id, due_date, amount, description, status)
+            SELECT blocks.lo + staged.rn %% %1$d, staged.due_date, staged.amount, staged.description, 'PENDING'
+            FROM (
+                SELECT s.*, row_number() OVER (ORDER BY s.line) - 1 AS rn
+                FROM bills_staging s
+            ) staged
+            JOIN (
+                SELECT block, nextval('bills_id_seq') AS lo
+                FROM generate_series(0, (SELECT (count(*) - 1) / %1$d FROM bills_staging)) AS block
+            ) blocks ON blocks.block = staged.rn / %1$d
+            """.formatted(ID_BLOCK_SIZE);
+
+    private final DataSource dataSource;
+
+    @Override
+    public int load(List<Bill> bills) {
+        if (bills.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (var statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                statement.execute(CLEAR_STAGING);
+            }
+
+            connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_STAGING, new StringReader(toCsv(bills)));
+
+            try (var statement = connection.createStatement()) {
+                return statement.executeUpdate(MOVE_STAGED);
+            }
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Bulk load of bills", COPY_STAGING, e);
+        } catch (IOException e) {
+            throw new UncategorizedSQLException("Bulk load of bills", COPY_STAGING, new SQLException(e));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private String toCsv(List<Bill> bills) {
+        var csv = new StringBuilder(bills.size() * 64);
+        long line = 0;
+        for (Bill bill : bills) {
+            csv.append(line++)
+                    .append(',')
+                    .append(bill.getDueDate().getValue())
+                    .append(',')
+                    .append(bill.getAmount().getValue().toPlainString())
+                    .append(",\"")
+                    .append(bill.getDescription().getValue().replace("\"", "\"\""))
+                    .append("\"\n");
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaymentDate;
+import com.github.djoarns.payflow.domain.bill.valueobject.Status;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BillBulkPayRepository {
+    List<Bill> payAll(Collection<BillId> ids, PaymentDate paymentDate);
+
+    Map<BillId, Status> findStatuses(Collection<BillId> ids);
+}
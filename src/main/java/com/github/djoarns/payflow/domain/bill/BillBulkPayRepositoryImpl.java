@@ -0,0 +1,105 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pays many bills with one statement. Only PENDING and OVERDUE bills qualify, as in
+ * {@link Bill#pay}. Target rows are locked in id order first so that overlapping bulk payments
+ * queue behind each other instead of deadlocking; a row paid meanwhile fails the re-checked
+ * status condition and is left out. Must run inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillBulkPayRepositoryImpl implements BillBulkPayRepository {
+    static final String PAY_ALL = """
+            WITH target AS (
+                SELECT id FROM bills
+                WHERE id = ANY(?) AND status IN ('PENDING', 'OVERDUE')
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE bills b SET status = 'PAID', payment_date = ?, updated_at = CURRENT_TIMESTAMP
+            FROM target
+            WHERE b.id = target.id
+            RETURNING b.id, b.due_date, b.amount, b.description
+            """;
+    static final String FIND_STATUSES = "SELECT id, status FROM bills WHERE id = ANY(?)";
+
+    private final DataSource dataSource;
+
+    @Override
+    public List<Bill> payAll(Collection<BillId> ids, PaymentDate paymentDate) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.prepareStatement(PAY_ALL)) {
+            bindIds(connection, statement, ids);
+            statement.setDate(2, Date.valueOf(paymentDate.getValue()));
+
+            List<Bill> paid = new ArrayList<>(ids.size());
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    paid.add(Bill.reconstitute(
+                            BillId.of(resultSet.getLong(1)),
+                            DueDate.of(resultSet.getDate(2).toLocalDate()),
+                            paymentDate,
+                            Amount.of(resultSet.getBigDecimal(3)),
+                            Description.of(resultSet.getString(4)),
+                            Status.PAID
+                    ));
+                }
+            }
+            return paid;
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Pay bills", PAY_ALL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public Map<BillId, Status> findStatuses(Collection<BillId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.prepareStatement(FIND_STATUSES)) {
+            bindIds(connection, statement, ids);
+
+            Map<BillId, Status> statuses = new HashMap<>();
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    statuses.put(BillId.of(resultSet.getLong(1)), Status.valueOf(resultSet.getString(2)));
+                }
+            }
+            return statuses;
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Find bill statuses", FIND_STATUSES, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void bindIds(Connection connection, PreparedStatement statement, Collection<BillId> ids) throws SQLException {
+        var values = ids.stream().map(BillId::getValue).toArray(Long[]::new);
+        statement.setArray(1, connection.createArrayOf("bigint", values));
+    }
+}
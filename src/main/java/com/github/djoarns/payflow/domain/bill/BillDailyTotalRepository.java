@@ -0,0 +1,19 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface BillDailyTotalRepository {
+    void addPayment(LocalDate paymentDate, Amount amount);
+
+    void addPayments(LocalDate paymentDate, Amount total, long billCount);
+
+    PaidTotal sumByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
+
+    Map<LocalDate, PaidTotal> findAll();
+
+    int reconcile();
+}
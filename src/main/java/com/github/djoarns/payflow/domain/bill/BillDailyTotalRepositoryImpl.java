@@ -0,0 +1,60 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillDailyTotalJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.repository.BillDailyTotalJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class BillDailyTotalRepositoryImpl implements BillDailyTotalRepository {
+    private final BillDailyTotalJpaRepository jpaRepository;
+
+    @Override
+    public void addPayment(LocalDate paymentDate, Amount amount) {
+        addPayments(paymentDate, amount, 1);
+    }
+
+    @Override
+    public void addPayments(LocalDate paymentDate, Amount total, long billCount) {
+        if (paymentDate == null || total == null) {
+            throw new InvalidBillDataException("Payment date and amount must be provided");
+        }
+        jpaRepository.increment(paymentDate, total.getValue(), billCount);
+    }
+
+    @Override
+    public PaidTotal sumByPaymentDateBetween(LocalDate startDate, LocalDate endDate) {
+        var projection = jpaRepository.sumByPaymentDateBetween(startDate, endDate);
+        if (projection == null) {
+            return PaidTotal.empty();
+        }
+        return PaidTotal.of(
+                projection.getTotalAmount(),
+                projection.getBillCount() != null ? projection.getBillCount() : 0
+        );
+    }
+
+    @Override
+    public Map<LocalDate, PaidTotal> findAll() {
+        return jpaRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(
+                        BillDailyTotalJpaEntity::getPaymentDate,
+                        entity -> PaidTotal.of(entity.getTotalAmount(), entity.getBillCount())
+                ));
+    }
+
+    @Override
+    public int reconcile() {
+        jpaRepository.lockForReconciliation();
+        return jpaRepository.repairDriftedDays() + jpaRepository.deleteOrphanedDays();
+    }
+}
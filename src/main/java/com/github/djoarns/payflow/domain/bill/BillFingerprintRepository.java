@@ -0,0 +1,14 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.BillFingerprint;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface BillFingerprintRepository {
+    /**
+     * Records the fingerprints that are not stored yet and returns exactly those. Must run in the
+     * transaction that inserts the matching bills.
+     */
+    Set<BillFingerprint> claim(Collection<BillFingerprint> fingerprints);
+}
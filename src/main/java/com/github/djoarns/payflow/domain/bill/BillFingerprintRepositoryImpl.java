@@ -0,0 +1,57 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.BillFingerprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Claims row fingerprints with one set-based statement: rows already present are dropped by the
+ * primary key conflict, and concurrent imports of the same row serialize on it, so only one of
+ * them sees the fingerprint returned.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillFingerprintRepositoryImpl implements BillFingerprintRepository {
+    static final String CLAIM = """
+            INSERT INTO bill_import_fingerprints (fingerprint)
+            SELECT DISTINCT decode(hex, 'hex') FROM unnest(?::text[]) AS hex
+            ON CONFLICT (fingerprint) DO NOTHING
+            RETURNING encode(fingerprint, 'hex')
+            """;
+
+    private final DataSource dataSource;
+
+    @Override
+    public Set<BillFingerprint> claim(Collection<BillFingerprint> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.prepareStatement(CLAIM)) {
+            var hexes = fingerprints.stream().map(BillFingerprint::toHex).toArray(String[]::new);
+            statement.setArray(1, connection.createArrayOf("text", hexes));
+
+            Set<BillFingerprint> claimed = new HashSet<>();
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    claimed.add(BillFingerprint.fromHex(resultSet.getString(1)));
+                }
+            }
+            return claimed;
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Claim bill fingerprints", CLAIM, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import java.time.LocalDateTime;
+
+public interface BillImportFileRepository {
+    boolean exists(String sha256);
+
+    void record(String sha256, String filename, LocalDateTime importedAt);
+}
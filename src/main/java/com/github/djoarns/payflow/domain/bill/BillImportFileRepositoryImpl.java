@@ -0,0 +1,23 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.infrastructure.persistence.repository.BillImportFileJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class BillImportFileRepositoryImpl implements BillImportFileRepository {
+    private final BillImportFileJpaRepository jpaRepository;
+
+    @Override
+    public boolean exists(String sha256) {
+        return jpaRepository.existsById(sha256);
+    }
+
+    @Override
+    public void record(String sha256, String filename, LocalDateTime importedAt) {
+        jpaRepository.insertIfAbsent(sha256, filename, importedAt);
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillOperationException;
+import com.github.djoarns.payflow.domain.bill.valueobject.ImportJobStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BillImportJob {
+    private UUID id;
+    private String filename;
+    private String spoolPath;
+    private String mode;
+    private String fileSha256;
+    private ImportJobStatus status;
+    private long totalBytes;
+    private long bytesRead;
+    private long rowsProcessed;
+    private long rowsSucceeded;
+    private long rowsRejected;
+    private long rowsDuplicated;
+    private int chunksCommitted;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static BillImportJob queue(
+            UUID id,
+            String filename,
+            String spoolPath,
+            String mode,
+            String fileSha256,
+            long totalBytes,
+            LocalDateTime now
+    ) {
+        if (id == null || spoolPath == null || mode == null || now == null) {
+            throw new InvalidBillDataException("All import job data must be provided");
+        }
+
+        return new BillImportJob(
+                id, filename, spoolPath, mode, fileSha256, ImportJobStatus.QUEUED,
+                Math.max(totalBytes, 0), 0, 0, 0, 0, 0, 0, null,
+                now, null, now, null
+        );
+    }
+
+    /**
+     * A job for a file whose fingerprint matches a completed import: nothing is left to do.
+     */
+    public static BillImportJob alreadyImported(
+            UUID id,
+            String filename,
+            String spoolPath,
+            String mode,
+            String fileSha256,
+            long totalBytes,
+            LocalDateTime now
+    ) {
+        var job = queue(id, filename, spoolPath, mode, fileSha256, totalBytes, now);
+        job.status = ImportJobStatus.COMPLETED;
+        job.message = "File already imported";
+        job.finishedAt = now;
+        return job;
+    }
+
+    /**
+     * Records a committed chunk. Row counters are absolute positions in the file, so a resumed
+     * job can skip exactly the rows that are already persisted.
+     */
+    public void recordChunk(
+            long rowsProcessed,
+            long rowsRejected,
+            int saved,
+            int duplicates,
+            long bytesRead,
+            LocalDateTime now
+    ) {
+        ensureRunning();
+        this.rowsProcessed = rowsProcessed;
+        this.rowsRejected = rowsRejected;
+        this.rowsSucceeded += saved;
+        this.rowsDuplicated += duplicates;
+        this.bytesRead = Math.min(bytesRead, totalBytes);
+        this.chunksCommitted++;
+        this.updatedAt = now;
+    }
+
+    public void complete(long rowsProcessed, long rowsRejected, LocalDateTime now) {
+        ensureRunning();
+        this.rowsProcessed = rowsProcessed;
+        this.rowsRejected = rowsRejected;
+        this.bytesRead = totalBytes;
+        this.status = ImportJobStatus.COMPLETED;
+        this.message = rowsSucceeded > 0
+                ? "Import completed successfully"
+                : rowsDuplicated > 0 ? "All bills in CSV file were already imported" : "No bills found in CSV file";
+        this.updatedAt = now;
+        this.finishedAt = now;
+    }
+
+    public void fail(String message, LocalDateTime now) {
+        if (isFinished()) {
+            throw new InvalidBillOperationException("Import job is already finished");
+        }
+        this.status = ImportJobStatus.FAILED;
+        this.message = message;
+        this.updatedAt = now;
+        this.finishedAt = now;
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    public Double rowsPerSecond(LocalDateTime now) {
+        if (startedAt == null) {
+            return null;
+        }
+        var elapsed = Duration.between(startedAt, finishedAt != null ? finishedAt : now);
+        if (elapsed.isZero() || elapsed.isNegative()) {
+            return null;
+        }
+        return rowsProcessed * 1000.0 / elapsed.toMillis();
+    }
+
+    /**
+     * Extrapolates the remaining time from the share of the spooled file consumed so far.
+     */
+    public Duration estimatedRemaining(LocalDateTime now) {
+        if (status != ImportJobStatus.RUNNING || startedAt == null || bytesRead <= 0 || totalBytes <= 0) {
+            return null;
+        }
+        var elapsedMillis = Duration.between(startedAt, now).toMillis();
+        if (elapsedMillis <= 0) {
+            return null;
+        }
+        return Duration.ofMillis(elapsedMillis * (totalBytes - bytesRead) / bytesRead);
+    }
+
+    private void ensureRunning() {
+        if (status != ImportJobStatus.RUNNING) {
+            throw new InvalidBillOperationException("Import job is not running: " + status);
+        }
+    }
+
+    public static BillImportJob reconstitute(
+            UUID id,
+            String filename,
+            String spoolPath,
+            String mode,
+            String fileSha256,
+            ImportJobStatus status,
+            long totalBytes,
+            long bytesRead,
+            long rowsProcessed,
+            long rowsSucceeded,
+            long rowsRejected,
+            long rowsDuplicated,
+            int chunksCommitted,
+            String message,
+            LocalDateTime createdAt,
+            LocalDateTime startedAt,
+            LocalDateTime updatedAt,
+            LocalDateTime finishedAt
+    ) {
+        return new BillImportJob(
+                id, filename, spoolPath, mode, fileSha256, status,
+                totalBytes, bytesRead, rowsProcessed, rowsSucceeded, rowsRejected, rowsDuplicated, chunksCommitted, message,
+                createdAt, startedAt, updatedAt, finishedAt
+        );
+    }
+}
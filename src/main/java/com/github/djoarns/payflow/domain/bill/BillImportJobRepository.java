@@ -0,0 +1,24 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BillImportJobRepository {
+    BillImportJob save(BillImportJob job);
+
+    Optional<BillImportJob> findById(UUID id);
+
+    /**
+     * Atomically moves a queued job, or a running job whose heartbeat is older than
+     * {@code staleBefore}, to RUNNING. Returns false when another worker owns it.
+     */
+    boolean claim(UUID id, LocalDateTime now, LocalDateTime staleBefore);
+
+    List<BillImportJob> findDispatchable(LocalDateTime staleBefore, int limit);
+
+    void saveRejections(UUID jobId, List<BillImportRejection> rejections);
+
+    List<BillImportRejection> findRejections(UUID jobId);
+}
@@ -0,0 +1,121 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillImportJobJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillImportRejectionJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.repository.BillImportJobJpaRepository;
+import com.github.djoarns.payflow.infrastructure.persistence.repository.BillImportRejectionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class BillImportJobRepositoryImpl implements BillImportJobRepository {
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final BillImportJobJpaRepository jpaRepository;
+    private final BillImportRejectionJpaRepository rejectionJpaRepository;
+
+    @Override
+    public BillImportJob save(BillImportJob job) {
+        return toDomainEntity(jpaRepository.save(toJpaEntity(job)));
+    }
+
+    @Override
+    public Optional<BillImportJob> findById(UUID id) {
+        return jpaRepository.findById(id).map(this::toDomainEntity);
+    }
+
+    @Override
+    public boolean claim(UUID id, LocalDateTime now, LocalDateTime staleBefore) {
+        return jpaRepository.claim(id, now, staleBefore) == 1;
+    }
+
+    @Override
+    public List<BillImportJob> findDispatchable(LocalDateTime staleBefore, int limit) {
+        return jpaRepository.findDispatchable(staleBefore, limit)
+                .stream()
+                .map(this::toDomainEntity)
+                .toList();
+    }
+
+    @Override
+    public void saveRejections(UUID jobId, List<BillImportRejection> rejections) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        rejectionJpaRepository.saveAll(rejections.stream()
+                .map(rejection -> new BillImportRejectionJpaEntity(
+                        jobId,
+                        rejection.line(),
+                        rejection.column(),
+                        truncate(rejection.reason())
+                ))
+                .toList());
+    }
+
+    @Override
+    public List<BillImportRejection> findRejections(UUID jobId) {
+        return rejectionJpaRepository.findByJobIdOrderByLine(jobId)
+                .stream()
+                .map(entity -> new BillImportRejection(entity.getLine(), entity.getColumnName(), entity.getReason()))
+                .toList();
+    }
+
+    private String truncate(String reason) {
+        if (reason == null) {
+            return "Invalid row";
+        }
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    private BillImportJobJpaEntity toJpaEntity(BillImportJob job) {
+        var entity = new BillImportJobJpaEntity();
+        entity.setId(job.getId());
+        entity.setFilename(job.getFilename());
+        entity.setSpoolPath(job.getSpoolPath());
+        entity.setMode(job.getMode());
+        entity.setFileSha256(job.getFileSha256());
+        entity.setStatus(job.getStatus());
+        entity.setTotalBytes(job.getTotalBytes());
+        entity.setBytesRead(job.getBytesRead());
+        entity.setRowsProcessed(job.getRowsProcessed());
+        entity.setRowsSucceeded(job.getRowsSucceeded());
+        entity.setRowsRejected(job.getRowsRejected());
+        entity.setRowsDuplicated(job.getRowsDuplicated());
+        entity.setChunksCommitted(job.getChunksCommitted());
+        entity.setMessage(job.getMessage());
+        entity.setCreatedAt(job.getCreatedAt());
+        entity.setStartedAt(job.getStartedAt());
+        entity.setUpdatedAt(job.getUpdatedAt());
+        entity.setFinishedAt(job.getFinishedAt());
+        return entity;
+    }
+
+    private BillImportJob toDomainEntity(BillImportJobJpaEntity entity) {
+        return BillImportJob.reconstitute(
+                entity.getId(),
+                entity.getFilename(),
+                entity.getSpoolPath(),
+                entity.getMode(),
+                entity.getFileSha256(),
+                entity.getStatus(),
+                entity.getTotalBytes(),
+                entity.getBytesRead(),
+                entity.getRowsProcessed(),
+                entity.getRowsSucceeded(),
+                entity.getRowsRejected(),
+                entity.getRowsDuplicated(),
+                entity.getChunksCommitted(),
+                entity.getMessage(),
+                entity.getCreatedAt(),
+                entity.getStartedAt(),
+                entity.getUpdatedAt(),
+                entity.getFinishedAt()
+        );
+    }
+}
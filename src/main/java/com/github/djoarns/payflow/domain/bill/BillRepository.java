@@ -1,10 +1,14 @@
 package com.github.djoarns.payflow.domain.bill;
 
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
 import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BillRepository {
     Bill save(Bill bill);
@@ -15,17 +19,39 @@ public interface BillRepository {
         LocalDate startDate,
         LocalDate endDate,
         String description,
-        int page,
-        int size
+        long offset,
+        int limit
     );
 
+    List<Bill> findByDueDateBetweenAndDescriptionAfter(
+        LocalDate startDate,
+        LocalDate endDate,
+        String description,
+        BillCursor after,
+        int limit
+    );
+
+    List<BillSearchHit> searchByDescription(String query, SearchCursor after, int limit);
+
+    Stream<Bill> streamByDueDateBetween(LocalDate startDate, LocalDate endDate);
+
     List<Bill> findByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
 
+    PaidTotal sumPaidByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
+
     List<Bill> saveAll(List<Bill> bills);
 
+    int markOverdue(LocalDate today, int limit);
+
     long countByDueDateBetweenAndDescription(
         LocalDate startDate,
         LocalDate endDate,
         String description
     );
+
+    long estimateCountByDueDateBetweenAndDescription(
+        LocalDate startDate,
+        LocalDate endDate,
+        String description
+    );
 }
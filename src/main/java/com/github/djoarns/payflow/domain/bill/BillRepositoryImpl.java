@@ -1,21 +1,38 @@
 package com.github.djoarns.payflow.domain.bill;
 
 import com.github.djoarns.payflow.infrastructure.persistence.entity.BillJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.BillRowProjection;
 import com.github.djoarns.payflow.infrastructure.persistence.repository.BillJpaRepository;
 import com.github.djoarns.payflow.domain.bill.valueobject.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class BillRepositoryImpl implements BillRepository {
+    static final String EXPLAIN_BY_DUE_DATE = """
+            EXPLAIN (FORMAT JSON)
+            SELECT 1 FROM bills
+            WHERE due_date BETWEEN ? AND ?
+              AND lower(description) LIKE lower(?)
+            """;
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
     private final BillJpaRepository jPARepository;
+    private final DataSource dataSource;
 
     @Override
     public Bill save(Bill bill) {
@@ -35,22 +52,62 @@ public class BillRepositoryImpl implements BillRepository {
             LocalDate startDate,
             LocalDate endDate,
             String description,
-            int page,
-            int size
+            long offset,
+            int limit
     ) {
-        var pageable = PageRequest.of(page, size);
         return jPARepository
-                .findByDueDateBetweenAndDescriptionContainingIgnoreCase(
+                .findByDueDateOffset(
                         startDate,
                         endDate,
-                        description != null ? description : "",
-                        pageable
+                        toContainsPattern(description),
+                        offset,
+                        limit
                 )
                 .stream()
                 .map(this::toDomainEntity)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Bill> findByDueDateBetweenAndDescriptionAfter(
+            LocalDate startDate,
+            LocalDate endDate,
+            String description,
+            BillCursor after,
+            int limit
+    ) {
+        var descriptionPattern = toContainsPattern(description);
+        var entities = after == null
+                ? jPARepository.findFirstByDueDateKeyset(startDate, endDate, descriptionPattern, limit)
+                : jPARepository.findNextByDueDateKeyset(
+                        startDate,
+                        endDate,
+                        descriptionPattern,
+                        after.getDueDate(),
+                        after.getId(),
+                        limit
+                );
+        return entities.stream()
+                .map(this::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BillSearchHit> searchByDescription(String query, SearchCursor after, int limit) {
+        var hits = after == null
+                ? jPARepository.searchFirstByDescription(query, limit)
+                : jPARepository.searchNextByDescription(query, after.getRank(), after.getId(), limit);
+        return hits.stream()
+                .map(hit -> new BillSearchHit(toDomainEntity(hit), hit.getRank()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Bill> streamByDueDateBetween(LocalDate startDate, LocalDate endDate) {
+        return jPARepository.streamByDueDate(startDate, endDate)
+                .map(this::toDomainEntity);
+    }
+
     @Override
     public List<Bill> findByPaymentDateBetween(LocalDate startDate, LocalDate endDate) {
         return jPARepository
@@ -60,6 +117,18 @@ public class BillRepositoryImpl implements BillRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PaidTotal sumPaidByPaymentDateBetween(LocalDate startDate, LocalDate endDate) {
+        var projection = jPARepository.sumPaidByPaymentDateBetween(startDate, endDate);
+        if (projection == null) {
+            return PaidTotal.empty();
+        }
+        return PaidTotal.of(
+                projection.getTotalAmount(),
+                projection.getBillCount() != null ? projection.getBillCount() : 0
+        );
+    }
+
     @Override
     public List<Bill> saveAll(List<Bill> bills) {
         var entities = bills.stream()
@@ -71,17 +140,59 @@ public class BillRepositoryImpl implements BillRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public int markOverdue(LocalDate today, int limit) {
+        return jPARepository.markOverdue(today, limit);
+    }
+
     @Override
     public long countByDueDateBetweenAndDescription(
             LocalDate startDate,
             LocalDate endDate,
             String description
     ) {
-        return jPARepository.countByDueDateBetweenAndDescriptionContainingIgnoreCase(
-                startDate,
-                endDate,
-                description != null ? description : ""
-        );
+        return jPARepository.countByDueDate(startDate, endDate, toContainsPattern(description));
+    }
+
+    @Override
+    public long estimateCountByDueDateBetweenAndDescription(
+            LocalDate startDate,
+            LocalDate endDate,
+            String description
+    ) {
+        var matcher = PLAN_ROWS.matcher(explain(startDate, endDate, toContainsPattern(description)));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    /**
+     * Runs the plan through plain JDBC: EXPLAIN returns a {@code json} column, which the
+     * driver reads as text but native JPA queries cannot map.
+     */
+    private String explain(LocalDate startDate, LocalDate endDate, String descriptionPattern) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.prepareStatement(EXPLAIN_BY_DUE_DATE)) {
+            statement.setDate(1, Date.valueOf(startDate));
+            statement.setDate(2, Date.valueOf(endDate));
+            statement.setString(3, descriptionPattern);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getString(1) != null ? resultSet.getString(1) : "";
+            }
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Estimate bill count", EXPLAIN_BY_DUE_DATE, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private String toContainsPattern(String description) {
+        if (description == null || description.isEmpty()) {
+            return "%";
+        }
+        var escaped = description
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
     private BillJpaEntity toJpaEntity(Bill bill) {
@@ -99,6 +210,17 @@ public class BillRepositoryImpl implements BillRepository {
         return entity;
     }
 
+    private Bill toDomainEntity(BillRowProjection row) {
+        return Bill.reconstitute(
+                BillId.of(row.getId()),
+                DueDate.of(row.getDueDate()),
+                row.getPaymentDate() != null ? PaymentDate.of(row.getPaymentDate()) : null,
+                Amount.of(row.getAmount()),
+                Description.of(row.getDescription()),
+                Status.valueOf(row.getStatus())
+        );
+    }
+
     private Bill toDomainEntity(BillJpaEntity entity) {
         return Bill.reconstitute(
                 BillId.of(entity.getId()),
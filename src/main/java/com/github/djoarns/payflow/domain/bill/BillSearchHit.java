@@ -0,0 +1,3 @@
+package com.github.djoarns.payflow.domain.bill;
+
+public record BillSearchHit(Bill bill, float rank) {}
@@ -0,0 +1,53 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BillCursor {
+    private static final String SEPARATOR = "|";
+
+    LocalDate dueDate;
+    Long id;
+
+    public static BillCursor of(LocalDate dueDate, Long id) {
+        if (dueDate == null || id == null) {
+            throw new InvalidBillDataException("Cursor due date and id must be provided");
+        }
+        return new BillCursor(dueDate, id);
+    }
+
+    public static BillCursor of(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidBillDataException("Cursor cannot be empty");
+        }
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidBillDataException("Invalid cursor format");
+            }
+            return of(
+                    LocalDate.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidBillDataException("Invalid cursor format");
+        }
+    }
+
+    public String toToken() {
+        var raw = dueDate + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
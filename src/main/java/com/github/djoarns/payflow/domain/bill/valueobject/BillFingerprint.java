@@ -0,0 +1,79 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * SHA-256 of a bill's due date, amount at cents precision and description with whitespace
+ * collapsed and case folded. Normalization is ASCII-only (whitespace is {@code [ \t\n\r\f\v]},
+ * only A-Z is lower-cased) so V12 can re-key stored fingerprints with the same formula in SQL,
+ * whatever the database collation.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BillFingerprint {
+    private static final Pattern WHITESPACE = Pattern.compile("[ \\t\\n\\r\\f\\x0B]+");
+
+    byte[] value;
+
+    public static BillFingerprint of(DueDate dueDate, Amount amount, Description description) {
+        if (dueDate == null || amount == null || description == null) {
+            throw new InvalidBillDataException("All bill data must be provided");
+        }
+        var canonical = dueDate.getValue()
+                + "|" + amount.getValue().setScale(2, RoundingMode.HALF_UP).toPlainString()
+                + "|" + normalize(description.getValue());
+        return new BillFingerprint(sha256().digest(canonical.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String normalize(String description) {
+        var collapsed = WHITESPACE.matcher(description).replaceAll(" ");
+        int start = 0;
+        int end = collapsed.length();
+        while (start < end && collapsed.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && collapsed.charAt(end - 1) == ' ') {
+            end--;
+        }
+        var normalized = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = collapsed.charAt(i);
+            normalized.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+        return normalized.toString();
+    }
+
+    public static BillFingerprint fromHex(String hex) {
+        try {
+            var bytes = HexFormat.of().parseHex(hex);
+            if (bytes.length != 32) {
+                throw new InvalidBillDataException("Fingerprint must be 32 bytes");
+            }
+            return new BillFingerprint(bytes);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBillDataException("Invalid fingerprint");
+        }
+    }
+
+    public String toHex() {
+        return HexFormat.of().formatHex(value);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,29 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaidTotal {
+    Amount amount;
+    long billCount;
+
+    public static PaidTotal of(BigDecimal total, long billCount) {
+        if (billCount < 0) {
+            throw new InvalidBillDataException("Bill count cannot be negative");
+        }
+        if (total == null || total.compareTo(BigDecimal.ZERO) == 0) {
+            return new PaidTotal(Amount.zero(), billCount);
+        }
+        return new PaidTotal(Amount.of(total), billCount);
+    }
+
+    public static PaidTotal empty() {
+        return new PaidTotal(Amount.zero(), 0);
+    }
+}
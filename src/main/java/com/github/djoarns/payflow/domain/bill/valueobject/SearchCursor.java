@@ -0,0 +1,51 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchCursor {
+    private static final String SEPARATOR = "|";
+
+    float rank;
+    Long id;
+
+    public static SearchCursor of(float rank, Long id) {
+        if (id == null || Float.isNaN(rank) || Float.isInfinite(rank)) {
+            throw new InvalidBillDataException("Cursor rank and id must be provided");
+        }
+        return new SearchCursor(rank, id);
+    }
+
+    public static SearchCursor of(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidBillDataException("Cursor cannot be empty");
+        }
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidBillDataException("Invalid cursor format");
+            }
+            return of(
+                    Float.parseFloat(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBillDataException("Invalid cursor format");
+        }
+    }
+
+    public String toToken() {
+        var raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,8 +3,10 @@ package com.github.djoarns.payflow.domain.user;
 import com.github.djoarns.payflow.domain.user.valueobject.Password;
 import com.github.djoarns.payflow.domain.user.valueobject.UserId;
 import com.github.djoarns.payflow.domain.user.valueobject.Username;
+import com.github.djoarns.payflow.infrastructure.cache.UserDetailsCache;
 import com.github.djoarns.payflow.infrastructure.persistence.entity.UserJpaEntity;
 import com.github.djoarns.payflow.infrastructure.persistence.repository.UserJpaRepository;
+import com.github.djoarns.payflow.infrastructure.security.JwtRevocationList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -14,11 +16,21 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final UserJpaRepository jpaRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final JwtRevocationList revocationList;
 
+    /**
+     * Saving an existing user is how its enabled flag, roles or password change, so tokens issued
+     * before the save are revoked: stateless tokens carry the old roles and enabled flag.
+     */
     @Override
     public User save(User user) {
         var entity = toJpaEntity(user);
         var savedEntity = jpaRepository.save(entity);
+        userDetailsCache.invalidate(savedEntity.getUsername());
+        if (user.getId() != null) {
+            revocationList.revokeAll(savedEntity.getUsername());
+        }
         return toDomainEntity(savedEntity);
     }
 
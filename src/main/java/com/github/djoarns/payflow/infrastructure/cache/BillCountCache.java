@@ -0,0 +1,44 @@
+package com.github.djoarns.payflow.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of exact list counts keyed by filter. Entries are not invalidated on writes,
+ * so totals may lag behind inserts by at most the configured TTL.
+ */
+@Component
+public class BillCountCache {
+    private final Cache<Key, Long> cache;
+
+    public BillCountCache(
+            @Value("${payflow.bills.count-cache.ttl:PT10S}") Duration ttl,
+            @Value("${payflow.bills.count-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public long get(LocalDate startDate, LocalDate endDate, String description, LongSupplier loader) {
+        return cache.get(new Key(startDate, endDate, normalize(description)), key -> loader.getAsLong());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private String normalize(String description) {
+        return description != null ? description.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private record Key(LocalDate startDate, LocalDate endDate, String description) {}
+}
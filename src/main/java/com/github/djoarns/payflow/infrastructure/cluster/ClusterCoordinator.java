@@ -0,0 +1,119 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import com.github.djoarns.payflow.infrastructure.hash.Hash64;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Grants cluster-wide leases with PostgreSQL session advisory locks, the database being the only
+ * service all replicas share. A lease never waits: a node that cannot take it is told so at once.
+ * Each held lease pins one connection until it is closed, so leases come from a small pool of
+ * their own rather than the one serving requests and transactions.
+ */
+@Slf4j
+@Component
+public class ClusterCoordinator {
+    /**
+     * Prefix hashed into every key, keeping our locks apart from any other user of advisory locks
+     * in the same database.
+     */
+    static final String NAMESPACE = "payflow:";
+    static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?)";
+
+    private final DataSource dataSource;
+    private final HikariDataSource ownedPool;
+
+    @Autowired
+    public ClusterCoordinator(
+            DataSourceProperties dataSourceProperties,
+            @Value("${payflow.cluster.lock-pool-size:4}") int lockPoolSize
+    ) {
+        this(lockPool(dataSourceProperties, lockPoolSize));
+    }
+
+    ClusterCoordinator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.ownedPool = dataSource instanceof HikariDataSource pool ? pool : null;
+    }
+
+    public Optional<ClusterLease> tryAcquire(String name) {
+        long key = key(name);
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            boolean acquired;
+            try (var statement = connection.prepareStatement(TRY_LOCK)) {
+                statement.setLong(1, key);
+                try (var resultSet = statement.executeQuery()) {
+                    acquired = resultSet.next() && resultSet.getBoolean(1);
+                }
+            }
+            if (!acquired) {
+                connection.close();
+                return Optional.empty();
+            }
+            return Optional.of(new ClusterLease(name, key, connection));
+        } catch (SQLException e) {
+            close(connection);
+            throw new UncategorizedSQLException("Acquire cluster lease " + name, TRY_LOCK, e);
+        }
+    }
+
+    /**
+     * Runs the task if this node takes the lease, returning whether it ran.
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        var lease = tryAcquire(name);
+        if (lease.isEmpty()) {
+            log.debug("Skipping {}, another node holds its lease", name);
+            return false;
+        }
+        try (var held = lease.get()) {
+            task.run();
+            return true;
+        }
+    }
+
+    static long key(String name) {
+        return Hash64.of(NAMESPACE + name);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ownedPool != null) {
+            ownedPool.close();
+        }
+    }
+
+    private static HikariDataSource lockPool(DataSourceProperties properties, int size) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        pool.setPoolName("cluster-locks");
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(0);
+        return pool;
+    }
+
+    private void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Could not close connection", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A held advisory lock. The lock lives on its own connection, so closing the lease, or losing the
+ * connection when a node dies, releases it.
+ */
+@Slf4j
+public final class ClusterLease implements AutoCloseable {
+    static final String UNLOCK = "SELECT pg_advisory_unlock(?)";
+
+    @Getter
+    private final String name;
+    private final long key;
+    private final Connection connection;
+    private boolean released;
+
+    ClusterLease(String name, long key, Connection connection) {
+        this.name = name;
+        this.key = key;
+        this.connection = connection;
+    }
+
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        try (var statement = connection.prepareStatement(UNLOCK)) {
+            statement.setLong(1, key);
+            statement.execute();
+        } catch (SQLException e) {
+            // A pooled connection must not go back to the pool still holding the lock
+            log.warn("Could not release cluster lease {}, discarding its connection", name, e);
+            abort();
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("Could not close connection of cluster lease {}", name, e);
+            }
+        }
+    }
+
+    private void abort() {
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException e) {
+            log.warn("Could not abort connection of cluster lease {}", name, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated method on at most one node at a time. Nodes that cannot take the lease skip
+ * the invocation, which suits {@code @Scheduled} methods that every replica triggers.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterSingleton {
+    /**
+     * Lease name shared by all nodes; defaults to {@code SimpleClassName.method}.
+     */
+    String value() default "";
+}
@@ -0,0 +1,35 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ClusterSingletonAspect {
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Around("@annotation(clusterSingleton)")
+    public Object runOnOneNode(ProceedingJoinPoint joinPoint, ClusterSingleton clusterSingleton) throws Throwable {
+        var name = clusterSingleton.value().isEmpty() ? defaultName(joinPoint) : clusterSingleton.value();
+        var lease = clusterCoordinator.tryAcquire(name);
+        if (lease.isEmpty()) {
+            log.debug("Skipping {}, another node holds its lease", name);
+            return null;
+        }
+        try (var held = lease.get()) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private String defaultName(ProceedingJoinPoint joinPoint) {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
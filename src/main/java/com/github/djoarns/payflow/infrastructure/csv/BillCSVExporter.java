@@ -0,0 +1,94 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportRejection;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class BillCSVExporter {
+    static final String HEADER = "dueDate,amount,description,id,paymentDate,status";
+    static final String REJECTIONS_HEADER = "line,column,reason";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public long export(Stream<Bill> bills, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write('\n');
+
+        long rows = 0;
+        Iterator<Bill> iterator = bills.iterator();
+        while (iterator.hasNext()) {
+            writeRow(writer, iterator.next());
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    public long exportRejections(List<BillImportRejection> rejections, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(REJECTIONS_HEADER);
+        writer.write('\n');
+        for (var rejection : rejections) {
+            writer.write(Long.toString(rejection.line()));
+            writer.write(',');
+            writer.write(rejection.column() != null ? rejection.column() : "");
+            writer.write(',');
+            writeField(writer, rejection.reason() != null ? rejection.reason() : "");
+            writer.write('\n');
+        }
+        writer.flush();
+        return rejections.size();
+    }
+
+    private void writeRow(Writer writer, Bill bill) throws IOException {
+        writer.write(bill.getDueDate().getValue().toString());
+        writer.write(',');
+        writer.write(bill.getAmount().getValue().toPlainString());
+        writer.write(',');
+        writeField(writer, bill.getDescription().getValue());
+        writer.write(',');
+        writer.write(bill.getId() != null ? bill.getId().getValue().toString() : "");
+        writer.write(',');
+        writer.write(bill.getPaymentDate() != null ? bill.getPaymentDate().getValue().toString() : "");
+        writer.write(',');
+        writer.write(bill.getStatus().name());
+        writer.write('\n');
+    }
+
+    private void writeField(Writer writer, String value) throws IOException {
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean needsQuoting(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        if (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1))) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+public record BillCSVImportSummary(
+        int totalRows,
+        int invalidRows
+) {}
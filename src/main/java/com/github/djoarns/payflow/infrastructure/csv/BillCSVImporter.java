@@ -1,51 +1,223 @@
 package com.github.djoarns.payflow.infrastructure.csv;
 
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportRejection;
 import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
 import com.github.djoarns.payflow.domain.bill.valueobject.Description;
 import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
-import com.opencsv.bean.CsvToBean;
-import com.opencsv.bean.CsvToBeanBuilder;
-import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
-@Slf4j
 @Component
 public class BillCSVImporter {
+    private static final int DEFAULT_SEGMENT_BYTES = 1024 * 1024;
+
+    private final int segmentBytes;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+
+    public BillCSVImporter() {
+        this(1, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * With more than one thread, segments of the file are parsed and validated in parallel and
+     * handed over in file order. {@code threads <= 0} uses one thread per available processor.
+     */
+    @Autowired
+    public BillCSVImporter(
+            @Value("${payflow.bills.import.parser-threads:0}") int threads,
+            @Value("${payflow.bills.import.parser-segment-bytes:1048576}") int segmentBytes
+    ) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.segmentBytes = segmentBytes;
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        this.maxInFlight = parallelism * 2;
+    }
 
     public List<Bill> importBills(InputStream inputStream) throws IOException {
         List<Bill> bills = new ArrayList<>();
+        importBills(inputStream, Integer.MAX_VALUE, bills::addAll);
+        return bills;
+    }
+
+    public BillCSVImportSummary importBills(
+            InputStream inputStream,
+            int chunkSize,
+            Consumer<List<Bill>> chunkConsumer
+    ) throws IOException {
+        return importBills(inputStream, chunkSize, 0, new BillCSVRejections(0), (chunk, progress) -> chunkConsumer.accept(chunk));
+    }
+
+    /**
+     * Parses rows after the first {@code skipRows} records and hands valid bills over in chunks.
+     * The progress passed with each chunk counts the rows read so far, excluding skipped ones.
+     * Rejected rows are reported to {@code rejections} in file order.
+     */
+    public BillCSVImportSummary importBills(
+            InputStream inputStream,
+            int chunkSize,
+            long skipRows,
+            BillCSVRejections rejections,
+            ChunkConsumer chunkConsumer
+    ) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        var collector = new ChunkCollector(chunkSize, skipRows, rejections, chunkConsumer);
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+        try (inputStream) {
+            var segmenter = new BillCSVSegmenter(inputStream, segmentBytes);
+            var header = segmenter.header();
+            if (header == null) {
+                throw new BillCSVParseException(1, null, "CSV file is empty");
+            }
+            var columns = new BillCSVParser(new ByteArrayInputStream(header.bytes())).columns();
+
+            if (pool == null) {
+                for (var segment = segmenter.next(); segment != null; segment = segmenter.next()) {
+                    collector.accept(parse(segment, columns));
+                }
+            } else {
+                importInParallel(segmenter, columns, collector);
+            }
+        }
+        return collector.finish();
+    }
 
-            CsvToBean<BillCSVRecord> csvToBean = new CsvToBeanBuilder<BillCSVRecord>(reader)
-                    .withType(BillCSVRecord.class)
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .withSeparator(',')
-                    .build();
+    private void importInParallel(
+            BillCSVSegmenter segmenter,
+            BillCSVParser.Columns columns,
+            ChunkCollector collector
+    ) throws IOException {
+        Deque<ForkJoinTask<ParsedSegment>> inFlight = new ArrayDeque<>(maxInFlight);
+        try {
+            for (var segment = segmenter.next(); segment != null; segment = segmenter.next()) {
+                var current = segment;
+                inFlight.add(pool.submit(() -> parse(current, columns)));
+                if (inFlight.size() >= maxInFlight) {
+                    collector.accept(inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                collector.accept(inFlight.poll().join());
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+    }
 
-            for (BillCSVRecord csvRecord : csvToBean) {
+    /**
+     * Parses and validates one segment. Rejected rows are kept as {@code null} so the ordered
+     * collector can still count them against the skip and progress positions; their reasons
+     * follow in the same order.
+     */
+    private ParsedSegment parse(BillCSVSegmenter.Segment segment, BillCSVParser.Columns columns) {
+        var parser = new BillCSVParser(segment.bytes(), columns, segment.firstLine());
+        List<Bill> rows = new ArrayList<>();
+        List<BillImportRejection> rejections = new ArrayList<>();
+        try {
+            while (parser.next()) {
+                String column = BillCSVParser.DUE_DATE;
                 try {
-                    Bill bill = Bill.create(
-                            DueDate.of(csvRecord.getDueDate()),
-                            Amount.of(csvRecord.getAmount()),
-                            Description.of(csvRecord.getDescription())
-                    );
-                    bills.add(bill);
-                } catch (Exception e) {
-                    log.error("Error processing CSV record: {}", csvRecord, e);
+                    var dueDate = DueDate.of(parser.dueDate());
+                    column = BillCSVParser.AMOUNT;
+                    var amount = Amount.of(parser.amount());
+                    column = BillCSVParser.DESCRIPTION;
+                    var description = Description.of(parser.description());
+                    column = BillCSVParser.AMOUNT;
+                    rows.add(Bill.create(dueDate, amount, description));
+                } catch (BillCSVParseException e) {
+                    rows.add(null);
+                    rejections.add(new BillImportRejection(e.getLine(), e.getColumn(), e.getReason()));
+                } catch (RuntimeException e) {
+                    rows.add(null);
+                    rejections.add(new BillImportRejection(parser.line(), column, e.getMessage()));
                 }
             }
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory segment cannot fail to read", e);
         }
-        return bills;
+        return new ParsedSegment(rows, rejections);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static final class ChunkCollector {
+        private final int chunkSize;
+        private final long skipRows;
+        private final BillCSVRejections rejections;
+        private final ChunkConsumer chunkConsumer;
+        private long skipped;
+        private int totalRows;
+        private int invalidRows;
+        private List<Bill> chunk;
+
+        private ChunkCollector(int chunkSize, long skipRows, BillCSVRejections rejections, ChunkConsumer chunkConsumer) {
+            this.chunkSize = chunkSize;
+            this.skipRows = skipRows;
+            this.rejections = rejections;
+            this.chunkConsumer = chunkConsumer;
+            this.chunk = new ArrayList<>(Math.min(chunkSize, 10_000));
+        }
+
+        private void accept(ParsedSegment segment) {
+            int rejection = 0;
+            for (Bill bill : segment.rows()) {
+                if (skipped < skipRows) {
+                    skipped++;
+                    if (bill == null) {
+                        rejection++;
+                    }
+                    continue;
+                }
+                totalRows++;
+                if (bill == null) {
+                    invalidRows++;
+                    rejections.add(segment.rejections().get(rejection++));
+                } else {
+                    chunk.add(bill);
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    chunkConsumer.accept(chunk, new BillCSVImportSummary(totalRows, invalidRows));
+                    chunk = new ArrayList<>(chunk.size());
+                }
+            }
+        }
+
+        private BillCSVImportSummary finish() {
+            var summary = new BillCSVImportSummary(totalRows, invalidRows);
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk, summary);
+            }
+            return summary;
+        }
+    }
+
+    private record ParsedSegment(List<Bill> rows, List<BillImportRejection> rejections) {
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(List<Bill> chunk, BillCSVImportSummary progress);
     }
-}
\ No newline at end of file
+}
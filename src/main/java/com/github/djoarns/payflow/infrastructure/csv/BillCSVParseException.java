@@ -0,0 +1,19 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import lombok.Getter;
+
+@Getter
+public class BillCSVParseException extends RuntimeException {
+    private final long line;
+    private final String column;
+    private final String reason;
+
+    public BillCSVParseException(long line, String column, String reason) {
+        super(column == null
+                ? "Line %d: %s".formatted(line, reason)
+                : "Line %d, column '%s': %s".formatted(line, column, reason));
+        this.line = line;
+        this.column = column;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,383 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming parser for the {@code dueDate,amount,description} import format. It scans raw UTF-8
+ * bytes into a reusable record buffer, parses dates and amounts straight from those bytes and
+ * only builds a {@link String} for the description. Columns are matched by header name,
+ * ignoring case, and unknown columns are skipped.
+ */
+public class BillCSVParser implements Closeable {
+    static final String DUE_DATE = "dueDate";
+    static final String AMOUNT = "amount";
+    static final String DESCRIPTION = "description";
+    /**
+     * Bill rows are tiny, so a quoted field running past this many bytes is taken to be an
+     * unterminated quote. The row is rejected and parsing resumes on the line after the quote.
+     */
+    static final int MAX_QUOTED_FIELD_BYTES = 8 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private int fills;
+
+    private byte[] record = new byte[256];
+    private int recordLength;
+    private int[] fieldStart = new int[8];
+    private int[] fieldEnd = new int[8];
+    private int fieldCount;
+    private boolean unterminatedQuote;
+    private long line;
+    private long recordLine;
+    private int quoteStart;
+    private int quoteFill;
+    private long quoteLine;
+    private int quotedBytes;
+
+    private final Columns columns;
+    private final int dueDateColumn;
+    private final int amountColumn;
+    private final int descriptionColumn;
+
+    public BillCSVParser(InputStream in) throws IOException {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        skipByteOrderMark();
+        if (!readRecord()) {
+            throw new BillCSVParseException(1, null, "CSV file is empty");
+        }
+
+        List<String> header = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            header.add(text(i).trim());
+        }
+        columns = new Columns(indexOf(header, DUE_DATE), indexOf(header, AMOUNT), indexOf(header, DESCRIPTION));
+        dueDateColumn = columns.dueDate();
+        amountColumn = columns.amount();
+        descriptionColumn = columns.description();
+
+        List<String> missing = new ArrayList<>();
+        if (amountColumn < 0) missing.add(AMOUNT);
+        if (descriptionColumn < 0) missing.add(DESCRIPTION);
+        if (dueDateColumn < 0) missing.add(DUE_DATE);
+        if (!missing.isEmpty()) {
+            throw new BillCSVParseException(recordLine, null,
+                    "Header is missing required fields " + missing + ", found " + header);
+        }
+    }
+
+    /**
+     * Parses a header-less segment of a file whose header was already read by another parser.
+     * {@code firstLine} is the physical line the segment starts on.
+     */
+    BillCSVParser(byte[] segment, Columns columns, long firstLine) {
+        this.in = InputStream.nullInputStream();
+        this.buffer = segment;
+        this.limit = segment.length;
+        this.line = firstLine - 1;
+        this.columns = columns;
+        this.dueDateColumn = columns.dueDate();
+        this.amountColumn = columns.amount();
+        this.descriptionColumn = columns.description();
+    }
+
+    Columns columns() {
+        return columns;
+    }
+
+    /**
+     * Advances to the next non-blank record.
+     */
+    public boolean next() throws IOException {
+        while (readRecord()) {
+            if (fieldCount > 1 || fieldEnd[0] > fieldStart[0] || unterminatedQuote) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Physical line on which the current record starts, counting the header as line 1.
+     */
+    public long line() {
+        return recordLine;
+    }
+
+    public LocalDate dueDate() {
+        int start = requireField(dueDateColumn, DUE_DATE);
+        int end = trimEnd(start, fieldEnd[dueDateColumn]);
+        byte[] r = record;
+        if (end - start != 10 || r[start + 4] != '-' || r[start + 7] != '-') {
+            throw invalid(DUE_DATE, dueDateColumn, "expected yyyy-MM-dd");
+        }
+        int year = digits(r, start, 4);
+        int month = digits(r, start + 5, 2);
+        int day = digits(r, start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            throw invalid(DUE_DATE, dueDateColumn, "expected yyyy-MM-dd");
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            throw invalid(DUE_DATE, dueDateColumn, e.getMessage());
+        }
+    }
+
+    public BigDecimal amount() {
+        int start = requireField(amountColumn, AMOUNT);
+        int end = trimEnd(start, fieldEnd[amountColumn]);
+        byte[] r = record;
+        int i = start;
+        boolean negative = false;
+        if (r[i] == '-' || r[i] == '+') {
+            negative = r[i] == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int digitCount = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            byte b = r[i];
+            if (b >= '0' && b <= '9') {
+                unscaled = unscaled * 10 + (b - '0');
+                digitCount++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                throw invalid(AMOUNT, amountColumn, "not a decimal number");
+            }
+        }
+        if (digitCount == 0) {
+            throw invalid(AMOUNT, amountColumn, "not a decimal number");
+        }
+        if (digitCount > MAX_LONG_DIGITS) {
+            return new BigDecimal(new String(r, start, end - start, StandardCharsets.US_ASCII));
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    public String description() {
+        int start = requireField(descriptionColumn, DESCRIPTION);
+        return new String(record, start, fieldEnd[descriptionColumn] - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int requireField(int column, String name) {
+        if (unterminatedQuote) {
+            throw new BillCSVParseException(recordLine, null, "Unterminated quoted field");
+        }
+        if (column >= fieldCount || fieldEnd[column] == fieldStart[column]) {
+            throw new BillCSVParseException(recordLine, name, "Field is mandatory but no value was provided");
+        }
+        return fieldStart[column];
+    }
+
+    private BillCSVParseException invalid(String name, int column, String reason) {
+        var value = text(column);
+        return new BillCSVParseException(recordLine, name, "Invalid value '" + value + "': " + reason);
+    }
+
+    private String text(int column) {
+        return new String(record, fieldStart[column], fieldEnd[column] - fieldStart[column], StandardCharsets.UTF_8);
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && (record[end - 1] == ' ' || record[end - 1] == '\t')) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int digits(byte[] bytes, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int indexOf(List<String> header, String name) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads one record into the record buffer. Leading blanks of unquoted fields are skipped and
+     * quoted fields may contain separators, doubled quotes and line breaks. A quote that is not
+     * closed within {@link #MAX_QUOTED_FIELD_BYTES} or before the input ends only spans its own line.
+     */
+    private boolean readRecord() throws IOException {
+        if (position == limit && !fill()) {
+            return false;
+        }
+        recordLength = 0;
+        fieldCount = 0;
+        unterminatedQuote = false;
+        recordLine = ++line;
+        startField();
+
+        boolean quoted = false;
+        boolean atFieldStart = true;
+        while (true) {
+            if (quoted && quotedBytes >= MAX_QUOTED_FIELD_BYTES) {
+                endUnterminatedQuote();
+                return true;
+            }
+            if (position == limit && !fill()) {
+                if (quoted) {
+                    endUnterminatedQuote();
+                    return true;
+                }
+                endField();
+                return true;
+            }
+            byte b = buffer[position++];
+            if (quoted) {
+                quotedBytes++;
+                if (b == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        quotedBytes++;
+                        append(b);
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (b == '\n') {
+                        line++;
+                    }
+                    append(b);
+                }
+            } else if (b == ',') {
+                endField();
+                startField();
+                atFieldStart = true;
+            } else if (b == '\n') {
+                endField();
+                return true;
+            } else if (b == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+                endField();
+                return true;
+            } else if (atFieldStart && (b == ' ' || b == '\t')) {
+                // ignore leading whitespace
+            } else if (atFieldStart && b == '"') {
+                atFieldStart = false;
+                quoted = true;
+                quoteStart = position;
+                quoteFill = fills;
+                quoteLine = line;
+                quotedBytes = 0;
+            } else {
+                atFieldStart = false;
+                append(b);
+            }
+        }
+    }
+
+    /**
+     * Ends the current record as rejected at the end of the line its open quote is on, or at the
+     * next line break when that line is no longer buffered.
+     */
+    private void endUnterminatedQuote() throws IOException {
+        unterminatedQuote = true;
+        if (fills == quoteFill) {
+            position = quoteStart;
+            line = quoteLine;
+        }
+        while (position < limit || fill()) {
+            if (buffer[position++] == '\n') {
+                break;
+            }
+        }
+        endField();
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            // keep the consumed bytes, an unterminated quote may still rewind into them
+            return false;
+        }
+        fills++;
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        while (limit < 3) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                break;
+            }
+            limit += read;
+        }
+        if (limit >= 3 && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+            position = 3;
+        }
+    }
+
+    private void append(byte b) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, record.length * 2);
+        }
+        record[recordLength++] = b;
+    }
+
+    private void startField() {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+        }
+        fieldStart[fieldCount] = recordLength;
+    }
+
+    private void endField() {
+        fieldEnd[fieldCount++] = recordLength;
+    }
+
+    record Columns(int dueDate, int amount, int description) {
+    }
+}
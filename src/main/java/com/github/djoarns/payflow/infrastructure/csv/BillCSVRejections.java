@@ -0,0 +1,50 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import com.github.djoarns.payflow.domain.bill.BillImportRejection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counts every rejected row but only keeps the first {@code limit} rejections, so a very dirty
+ * file cannot exhaust memory. Rejections arrive in file order.
+ */
+public class BillCSVRejections {
+    private final int limit;
+    private final List<BillImportRejection> kept = new ArrayList<>();
+    private long count;
+    private int drained;
+
+    public BillCSVRejections(int limit) {
+        this.limit = Math.max(limit, 0);
+    }
+
+    void add(BillImportRejection rejection) {
+        count++;
+        if (kept.size() < limit) {
+            kept.add(rejection);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public List<BillImportRejection> kept() {
+        return Collections.unmodifiableList(kept);
+    }
+
+    public boolean truncated() {
+        return count > kept.size();
+    }
+
+    /**
+     * Returns the kept rejections added since the previous call.
+     */
+    public List<BillImportRejection> drain() {
+        var fresh = List.copyOf(kept.subList(drained, kept.size()));
+        drained = kept.size();
+        return fresh;
+    }
+}
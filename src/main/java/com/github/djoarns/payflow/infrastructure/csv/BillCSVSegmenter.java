@@ -0,0 +1,172 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Cuts a CSV stream into byte segments of roughly {@code segmentSize} bytes that end on a record
+ * boundary, tracking quotes exactly as {@link BillCSVParser} does (a quote only opens a field at its
+ * start, {@code ""} is an escaped quote and an unterminated quote only spans its own line) so that line
+ * breaks inside quoted fields never split a record. Each segment remembers the physical line it starts
+ * on, so parsers working on it report file lines.
+ */
+class BillCSVSegmenter {
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final int segmentSize;
+    private byte[] data;
+    private int length;
+    private int scanned;
+    private int newlines;
+    private boolean inQuotes;
+    private boolean closingQuote;
+    private boolean atFieldStart = true;
+    private boolean skipLine;
+    private int quoteStart;
+    private boolean eof;
+    private long nextLine = 1;
+
+    BillCSVSegmenter(InputStream in, int segmentSize) {
+        this.in = in;
+        this.segmentSize = segmentSize;
+        this.data = new byte[Math.max(segmentSize, READ_SIZE) + READ_SIZE];
+    }
+
+    /**
+     * Returns the header record, without a leading byte order mark.
+     */
+    Segment header() throws IOException {
+        while (length < 3 && read()) {
+            // fill enough bytes to detect a byte order mark
+        }
+        if (length >= 3 && data[0] == (byte) 0xEF && data[1] == (byte) 0xBB && data[2] == (byte) 0xBF) {
+            consume(3);
+        }
+        return cut(1);
+    }
+
+    /**
+     * Returns the next segment, or {@code null} once the stream is exhausted.
+     */
+    Segment next() throws IOException {
+        return cut(segmentSize);
+    }
+
+    private Segment cut(int minimumSize) throws IOException {
+        while (true) {
+            for (; scanned < length; scanned++) {
+                byte b = data[scanned];
+                if (inQuotes && !closingQuote && scanned - quoteStart >= BillCSVParser.MAX_QUOTED_FIELD_BYTES) {
+                    // same recovery as the parser: the record ends with the line the quote opened on
+                    inQuotes = false;
+                    int newline = indexOfNewline(quoteStart, scanned);
+                    if (newline >= 0) {
+                        newlines -= countNewlines(newline, scanned);
+                        scanned = newline;
+                        b = '\n';
+                    } else {
+                        skipLine = true;
+                    }
+                }
+                if (skipLine) {
+                    if (b != '\n') {
+                        continue;
+                    }
+                    skipLine = false;
+                } else if (inQuotes) {
+                    if (closingQuote) {
+                        closingQuote = false;
+                        if (b == '"') {
+                            continue;
+                        }
+                        inQuotes = false;
+                    } else if (b == '"') {
+                        closingQuote = true;
+                        continue;
+                    } else {
+                        if (b == '\n') {
+                            newlines++;
+                        }
+                        continue;
+                    }
+                }
+                if (b == '\n') {
+                    newlines++;
+                    atFieldStart = true;
+                    if (scanned + 1 >= minimumSize) {
+                        return take(scanned + 1);
+                    }
+                } else if (b == ',' || b == '\r') {
+                    atFieldStart = true;
+                } else if (atFieldStart && b == '"') {
+                    atFieldStart = false;
+                    inQuotes = true;
+                    quoteStart = scanned + 1;
+                } else if (!(atFieldStart && (b == ' ' || b == '\t'))) {
+                    atFieldStart = false;
+                }
+            }
+            if (!read()) {
+                return length == 0 ? null : take(length);
+            }
+        }
+    }
+
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int countNewlines(int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (data[i] == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Segment take(int size) {
+        var segment = new Segment(Arrays.copyOf(data, size), nextLine);
+        nextLine += newlines;
+        consume(size);
+        return segment;
+    }
+
+    private void consume(int size) {
+        System.arraycopy(data, size, data, 0, length - size);
+        length -= size;
+        scanned = 0;
+        newlines = 0;
+        inQuotes = false;
+        closingQuote = false;
+        atFieldStart = true;
+        skipLine = false;
+    }
+
+    private boolean read() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (data.length - length < READ_SIZE) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int read = in.read(data, length, READ_SIZE);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        length += read;
+        return true;
+    }
+
+    record Segment(byte[] bytes, long firstLine) {
+    }
+}
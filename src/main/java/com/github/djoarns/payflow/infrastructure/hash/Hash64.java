@@ -0,0 +1,24 @@
+package com.github.djoarns.payflow.infrastructure.hash;
+
+/**
+ * 64-bit FNV-1a hash finalised with the MurmurHash3 mixer, for keys that must not collide the
+ * way {@link String#hashCode()} does.
+ */
+public final class Hash64 {
+    private Hash64() {
+    }
+
+    public static long of(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
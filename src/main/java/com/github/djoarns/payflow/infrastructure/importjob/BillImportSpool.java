@@ -0,0 +1,57 @@
+package com.github.djoarns.payflow.infrastructure.importjob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Keeps uploaded CSV files on local disk until their import job has finished.
+ */
+@Slf4j
+@Component
+public class BillImportSpool {
+    private final Path directory;
+
+    public BillImportSpool(@Value("${payflow.bills.import.spool-dir}") Path directory) {
+        this.directory = directory;
+    }
+
+    public Spooled spool(UUID jobId, InputStream content) throws IOException {
+        Files.createDirectories(directory);
+        var target = directory.resolve(jobId + ".csv");
+        var partial = directory.resolve(jobId + ".csv.part");
+        try (var in = new Sha256InputStream(content)) {
+            long size = Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            return new Spooled(Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE), size, in.hex());
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+    }
+
+    public boolean exists(String spoolPath) {
+        return Files.isReadable(Path.of(spoolPath));
+    }
+
+    public CountingInputStream open(String spoolPath) throws IOException {
+        return new CountingInputStream(Files.newInputStream(Path.of(spoolPath)));
+    }
+
+    public void delete(String spoolPath) {
+        try {
+            Files.deleteIfExists(Path.of(spoolPath));
+        } catch (IOException e) {
+            log.warn("Could not delete spooled import file {}", spoolPath, e);
+        }
+    }
+
+    public record Spooled(Path path, long size, String sha256) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.djoarns.payflow.infrastructure.importjob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the SHA-256 of everything read through it.
+ */
+public class Sha256InputStream extends DigestInputStream {
+
+    public Sha256InputStream(InputStream in) {
+        super(in, sha256());
+    }
+
+    /**
+     * Reads {@code in} to the end and returns its SHA-256. Does not close the stream.
+     */
+    public static String digest(InputStream in) throws IOException {
+        var digesting = new Sha256InputStream(in);
+        digesting.transferTo(OutputStream.nullOutputStream());
+        return digesting.hex();
+    }
+
+    public String hex() {
+        return HexFormat.of().formatHex(getMessageDigest().digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
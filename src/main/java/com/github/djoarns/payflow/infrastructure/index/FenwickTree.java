@@ -0,0 +1,51 @@
+package com.github.djoarns.payflow.infrastructure.index;
+
+import java.util.Arrays;
+
+public class FenwickTree {
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be greater than zero");
+        }
+        this.tree = new long[size + 1];
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public void add(int index, long delta) {
+        checkIndex(index);
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    public long prefixSum(int index) {
+        checkIndex(index);
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    public long rangeSum(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            return 0;
+        }
+        return fromIndex == 0 ? prefixSum(toIndex) : prefixSum(toIndex) - prefixSum(fromIndex - 1);
+    }
+
+    public void clear() {
+        Arrays.fill(tree, 0);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.github.djoarns.payflow.infrastructure.index;
+
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process prefix-sum index of paid totals keyed by epoch day, kept in cents.
+ * Warmed from {@code bill_daily_totals} at startup and rebuilt on a short schedule and after each
+ * reconciliation. Only payments made through this node are applied in between, so with several
+ * replicas the totals lag the table by up to {@code payflow.bills.paid-index.refresh-interval}.
+ * Payments hold a commit gate from before their commit until they are applied, and a rebuild holds
+ * it exclusively while it reads and installs, so every payment is either in the snapshot or applied
+ * to the installed tree, never both.
+ */
+@Slf4j
+@Component
+public class PaidTotalsIndex {
+    private final BillDailyTotalRepository billDailyTotalRepository;
+    private final boolean enabled;
+    private final long firstEpochDay;
+    private final FenwickTree cents;
+    private final FenwickTree counts;
+    private final Duration commitWait;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private boolean hasDaysOutsideWindow;
+
+    public PaidTotalsIndex(
+            BillDailyTotalRepository billDailyTotalRepository,
+            @Value("${payflow.bills.paid-index.enabled:false}") boolean enabled,
+            @Value("${payflow.bills.paid-index.start-date:2000-01-01}") LocalDate startDate,
+            @Value("${payflow.bills.paid-index.days:18263}") int days,
+            @Value("${payflow.bills.paid-index.commit-wait:PT5S}") Duration commitWait
+    ) {
+        this.billDailyTotalRepository = billDailyTotalRepository;
+        this.enabled = enabled;
+        this.firstEpochDay = startDate.toEpochDay();
+        this.cents = enabled ? new FenwickTree(days) : null;
+        this.counts = enabled ? new FenwickTree(days) : null;
+        this.commitWait = commitWait;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        // Bounded so a commit stuck behind a lock held by a payment already queued on the gate
+        // cannot stall both forever; the previous tree stays until the next refresh
+        if (!tryLockCommitGate()) {
+            log.warn("Paid totals index not rebuilt: payments kept committing for {}, keeping the previous totals",
+                    commitWait);
+            return;
+        }
+        try {
+            var dailyTotals = billDailyTotalRepository.findAll();
+            lock.writeLock().lock();
+            try {
+                cents.clear();
+                counts.clear();
+                hasDaysOutsideWindow = false;
+                dailyTotals.forEach((day, total) -> apply(day, toCents(total.getAmount()), total.getBillCount()));
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Paid totals index built from {} days", dailyTotals.size());
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    public void recordPayment(LocalDate paymentDate, Amount amount) {
+        recordPayments(paymentDate, amount, 1);
+    }
+
+    public void recordPayments(LocalDate paymentDate, Amount total, long billCount) {
+        if (!enabled) {
+            return;
+        }
+        long amountInCents = toCents(total);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean admitted;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commitGate.readLock().lock();
+                    admitted = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    applyLocked(paymentDate, amountInCents, billCount);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (admitted) {
+                        commitGate.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            commitGate.readLock().lock();
+            try {
+                applyLocked(paymentDate, amountInCents, billCount);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+        }
+    }
+
+    public Optional<PaidTotal> sum(LocalDate startDate, LocalDate endDate) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        long from = Math.max(startDate.toEpochDay() - firstEpochDay, 0);
+        long to = Math.min(endDate.toEpochDay() - firstEpochDay, cents.size() - 1L);
+
+        lock.readLock().lock();
+        try {
+            boolean clamped = from != startDate.toEpochDay() - firstEpochDay
+                    || to != endDate.toEpochDay() - firstEpochDay;
+            if (clamped && hasDaysOutsideWindow) {
+                return Optional.empty();
+            }
+            if (from > to) {
+                return Optional.of(PaidTotal.empty());
+            }
+            return Optional.of(PaidTotal.of(
+                    BigDecimal.valueOf(cents.rangeSum((int) from, (int) to), 2),
+                    counts.rangeSum((int) from, (int) to)
+            ));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean tryLockCommitGate() {
+        try {
+            return commitGate.writeLock().tryLock(commitWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void applyLocked(LocalDate day, long amountInCents, long billCount) {
+        lock.writeLock().lock();
+        try {
+            apply(day, amountInCents, billCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(LocalDate day, long amountInCents, long billCount) {
+        long index = day.toEpochDay() - firstEpochDay;
+        if (index < 0 || index >= cents.size()) {
+            hasDaysOutsideWindow = true;
+            return;
+        }
+        cents.add((int) index, amountInCents);
+        counts.add((int) index, billCount);
+    }
+
+    private static long toCents(Amount amount) {
+        return amount.getValue()
+                .setScale(2, RoundingMode.HALF_EVEN)
+                .unscaledValue()
+                .longValueExact();
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.djoarns.payflow.infrastructure.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.djoarns.payflow.application.bill.result.BillBatchItem;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class BillNdjsonExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter rowWriter;
+    private final ObjectWriter batchItemWriter;
+
+    public BillNdjsonExporter(ObjectMapper objectMapper) {
+        this.rowWriter = objectMapper.writerFor(Row.class);
+        this.batchItemWriter = objectMapper.writerFor(BatchItem.class);
+    }
+
+    public long export(Stream<Bill> bills, OutputStream outputStream) throws IOException {
+        var output = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+
+        long rows = 0;
+        Iterator<Bill> iterator = bills.iterator();
+        while (iterator.hasNext()) {
+            output.write(rowWriter.writeValueAsBytes(Row.of(iterator.next())));
+            output.write('\n');
+            rows++;
+        }
+        output.flush();
+        return rows;
+    }
+
+    public void exportBatchItems(List<BillBatchItem> items, OutputStream outputStream) throws IOException {
+        var output = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        for (BillBatchItem item : items) {
+            output.write(batchItemWriter.writeValueAsBytes(
+                    new BatchItem(item.index(), item.status(), item.id(), item.error())
+            ));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record BatchItem(long index, int status, Long id, String error) {
+    }
+
+    record Row(
+            Long id,
+            LocalDate dueDate,
+            LocalDate paymentDate,
+            BigDecimal amount,
+            String description,
+            String status
+    ) {
+        static Row of(Bill bill) {
+            return new Row(
+                    bill.getId() != null ? bill.getId().getValue() : null,
+                    bill.getDueDate().getValue(),
+                    bill.getPaymentDate() != null ? bill.getPaymentDate().getValue() : null,
+                    bill.getAmount().getValue(),
+                    bill.getDescription().getValue(),
+                    bill.getStatus().name()
+            );
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.djoarns.payflow.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads one bill object per NDJSON line with the streaming parser, so memory stays flat however
+ * long the request body is. A bad field only rejects its own row; malformed JSON ends the stream
+ * because the parser cannot tell where the next row starts.
+ */
+@Component
+public class BillNdjsonReader {
+    private final JsonFactory jsonFactory;
+
+    public BillNdjsonReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public long read(InputStream inputStream, RowConsumer consumer) throws IOException {
+        long index = 0;
+        try (var parser = jsonFactory.createParser(inputStream)) {
+            while (true) {
+                Row row;
+                try {
+                    var token = parser.nextToken();
+                    if (token == null) {
+                        return index;
+                    }
+                    row = readRow(index, token, parser);
+                } catch (JsonParseException e) {
+                    consumer.accept(Row.invalid(index, "Malformed JSON at line " + e.getLocation().getLineNr()));
+                    return index + 1;
+                }
+                consumer.accept(row);
+                index++;
+            }
+        }
+    }
+
+    private Row readRow(long index, JsonToken token, JsonParser parser) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Row.invalid(index, "Each line must be a JSON object");
+        }
+
+        LocalDate dueDate = null;
+        BigDecimal amount = null;
+        String description = null;
+        String error = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = parser.currentName();
+            var value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            try {
+                switch (field) {
+                    case "dueDate" -> dueDate = LocalDate.parse(text(field, value, parser));
+                    case "amount" -> amount = value.isNumeric()
+                            ? parser.getDecimalValue()
+                            : new BigDecimal(text(field, value, parser));
+                    case "description" -> description = text(field, value, parser);
+                    default -> parser.skipChildren();
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                error = error != null ? error : "Invalid value '" + parser.getText() + "' for field '" + field + "'";
+            } catch (InvalidFieldException e) {
+                error = error != null ? error : e.getMessage();
+                parser.skipChildren();
+            }
+        }
+
+        return new Row(index, dueDate, amount, description, error);
+    }
+
+    private String text(String field, JsonToken value, JsonParser parser) throws IOException {
+        if (value != JsonToken.VALUE_STRING) {
+            throw new InvalidFieldException("Field '" + field + "' must be a string");
+        }
+        return parser.getText();
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(Row row) throws IOException;
+    }
+
+    public record Row(long index, LocalDate dueDate, BigDecimal amount, String description, String error) {
+        static Row invalid(long index, String error) {
+            return new Row(index, null, null, null, error);
+        }
+    }
+
+    private static final class InvalidFieldException extends RuntimeException {
+        InvalidFieldException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.djoarns.payflow.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bill_import_files")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BillImportFileJpaEntity {
+    @Id
+    private String sha256;
+
+    private String filename;
+
+    @Column(name = "imported_at", nullable = false)
+    private LocalDateTime importedAt;
+}
@@ -0,0 +1,70 @@
+package com.github.djoarns.payflow.infrastructure.persistence.entity;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.ImportJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "bill_import_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BillImportJobJpaEntity {
+    @Id
+    private UUID id;
+
+    private String filename;
+
+    @Column(name = "spool_path", nullable = false)
+    private String spoolPath;
+
+    @Column(nullable = false)
+    private String mode;
+
+    @Column(name = "file_sha256")
+    private String fileSha256;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status;
+
+    @Column(name = "total_bytes", nullable = false)
+    private long totalBytes;
+
+    @Column(name = "bytes_read", nullable = false)
+    private long bytesRead;
+
+    @Column(name = "rows_processed", nullable = false)
+    private long rowsProcessed;
+
+    @Column(name = "rows_succeeded", nullable = false)
+    private long rowsSucceeded;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(name = "rows_duplicated", nullable = false)
+    private long rowsDuplicated;
+
+    @Column(name = "chunks_committed", nullable = false)
+    private int chunksCommitted;
+
+    private String message;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,55 @@
+package com.github.djoarns.payflow.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(name = "bill_import_rejections")
+@IdClass(BillImportRejectionJpaEntity.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillImportRejectionJpaEntity implements Persistable<BillImportRejectionJpaEntity.Key> {
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Id
+    private long line;
+
+    @Column(name = "column_name")
+    private String columnName;
+
+    @Column(nullable = false)
+    private String reason;
+
+    @Override
+    public Key getId() {
+        return new Key(jobId, line);
+    }
+
+    /**
+     * Rejections are only ever inserted, so saving never needs to look for an existing row.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID jobId;
+        private long line;
+    }
+}
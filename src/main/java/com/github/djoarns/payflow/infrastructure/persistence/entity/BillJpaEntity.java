@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class BillJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bills_id_seq")
+    @SequenceGenerator(name = "bills_id_seq", sequenceName = "bills_id_seq", allocationSize = 100)
     private Long id;
 
     @Column(name = "due_date", nullable = false)
@@ -0,0 +1,18 @@
+package com.github.djoarns.payflow.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface BillRowProjection {
+    Long getId();
+
+    LocalDate getDueDate();
+
+    LocalDate getPaymentDate();
+
+    BigDecimal getAmount();
+
+    String getDescription();
+
+    String getStatus();
+}
@@ -0,0 +1,5 @@
+package com.github.djoarns.payflow.infrastructure.persistence.projection;
+
+public interface BillSearchHitProjection extends BillRowProjection {
+    Float getRank();
+}
@@ -0,0 +1,9 @@
+package com.github.djoarns.payflow.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+public interface PaidTotalProjection {
+    BigDecimal getTotalAmount();
+
+    Long getBillCount();
+}
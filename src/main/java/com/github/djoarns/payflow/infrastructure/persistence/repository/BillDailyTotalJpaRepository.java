@@ -0,0 +1,69 @@
+package com.github.djoarns.payflow.infrastructure.persistence.repository;
+
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillDailyTotalJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.PaidTotalProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface BillDailyTotalJpaRepository extends JpaRepository<BillDailyTotalJpaEntity, LocalDate> {
+    @Query("""
+            select sum(t.totalAmount) as totalAmount, sum(t.billCount) as billCount
+            from BillDailyTotalJpaEntity t
+            where t.paymentDate between :startDate and :endDate
+            """)
+    PaidTotalProjection sumByPaymentDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO bill_daily_totals (payment_date, total_amount, bill_count)
+            VALUES (:paymentDate, :amount, :billCount)
+            ON CONFLICT (payment_date) DO UPDATE SET
+                total_amount = bill_daily_totals.total_amount + EXCLUDED.total_amount,
+                bill_count = bill_daily_totals.bill_count + EXCLUDED.bill_count,
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int increment(
+            @Param("paymentDate") LocalDate paymentDate,
+            @Param("amount") BigDecimal amount,
+            @Param("billCount") long billCount
+    );
+
+    @Modifying
+    @Query(value = "LOCK TABLE bill_daily_totals IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconciliation();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO bill_daily_totals (payment_date, total_amount, bill_count)
+            SELECT payment_date, SUM(amount), COUNT(*)
+            FROM bills
+            WHERE payment_date IS NOT NULL
+            GROUP BY payment_date
+            ON CONFLICT (payment_date) DO UPDATE SET
+                total_amount = EXCLUDED.total_amount,
+                bill_count = EXCLUDED.bill_count,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE bill_daily_totals.total_amount <> EXCLUDED.total_amount
+               OR bill_daily_totals.bill_count <> EXCLUDED.bill_count
+            """, nativeQuery = true)
+    int repairDriftedDays();
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM bill_daily_totals t
+            WHERE NOT EXISTS (
+                SELECT 1 FROM bills b WHERE b.payment_date = t.payment_date
+            )
+            """, nativeQuery = true)
+    int deleteOrphanedDays();
+}
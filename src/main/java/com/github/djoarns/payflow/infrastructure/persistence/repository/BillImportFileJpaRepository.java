@@ -0,0 +1,25 @@
+package com.github.djoarns.payflow.infrastructure.persistence.repository;
+
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillImportFileJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface BillImportFileJpaRepository extends JpaRepository<BillImportFileJpaEntity, String> {
+    @Modifying
+    @Query(value = """
+            INSERT INTO bill_import_files (sha256, filename, imported_at)
+            VALUES (:sha256, :filename, :importedAt)
+            ON CONFLICT (sha256) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("sha256") String sha256,
+            @Param("filename") String filename,
+            @Param("importedAt") LocalDateTime importedAt
+    );
+}
@@ -0,0 +1,44 @@
+package com.github.djoarns.payflow.infrastructure.persistence.repository;
+
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillImportJobJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BillImportJobJpaRepository extends JpaRepository<BillImportJobJpaEntity, UUID> {
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bill_import_jobs
+            SET status = 'RUNNING',
+                started_at = COALESCE(started_at, :now),
+                updated_at = :now
+            WHERE id = :id
+              AND (status = 'QUEUED' OR (status = 'RUNNING' AND updated_at < :staleBefore))
+            """, nativeQuery = true)
+    int claim(
+            @Param("id") UUID id,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    @Query(value = """
+            SELECT * FROM bill_import_jobs
+            WHERE status IN ('QUEUED', 'RUNNING')
+              AND (status = 'QUEUED' OR updated_at < :staleBefore)
+            ORDER BY created_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BillImportJobJpaEntity> findDispatchable(
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("limit") int limit
+    );
+}
@@ -0,0 +1,14 @@
+package com.github.djoarns.payflow.infrastructure.persistence.repository;
+
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillImportRejectionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BillImportRejectionJpaRepository
+        extends JpaRepository<BillImportRejectionJpaEntity, BillImportRejectionJpaEntity.Key> {
+    List<BillImportRejectionJpaEntity> findByJobIdOrderByLine(UUID jobId);
+}
@@ -1,20 +1,117 @@
 package com.github.djoarns.payflow.infrastructure.persistence.repository;
 
 import com.github.djoarns.payflow.infrastructure.persistence.entity.BillJpaEntity;
-import org.springframework.data.domain.Pageable;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.BillRowProjection;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.BillSearchHitProjection;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.PaidTotalProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BillJpaRepository extends JpaRepository<BillJpaEntity, Long> {
-    List<BillJpaEntity> findByDueDateBetweenAndDescriptionContainingIgnoreCase(
-            LocalDate startDate,
-            LocalDate endDate,
-            String description,
-            Pageable pageable
+    @Query(value = """
+            SELECT * FROM bills
+            WHERE due_date BETWEEN :startDate AND :endDate
+              AND lower(description) LIKE lower(:descriptionPattern)
+            ORDER BY due_date, id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<BillJpaEntity> findByDueDateOffset(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("descriptionPattern") String descriptionPattern,
+            @Param("offset") long offset,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT * FROM bills
+            WHERE due_date BETWEEN :startDate AND :endDate
+              AND lower(description) LIKE lower(:descriptionPattern)
+            ORDER BY due_date, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BillJpaEntity> findFirstByDueDateKeyset(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("descriptionPattern") String descriptionPattern,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT * FROM bills
+            WHERE due_date BETWEEN :startDate AND :endDate
+              AND lower(description) LIKE lower(:descriptionPattern)
+              AND (due_date, id) > (:afterDueDate, :afterId)
+            ORDER BY due_date, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BillJpaEntity> findNextByDueDateKeyset(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("descriptionPattern") String descriptionPattern,
+            @Param("afterDueDate") LocalDate afterDueDate,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT id, due_date AS "dueDate", payment_date AS "paymentDate", amount, description, status, rank
+            FROM (
+                SELECT b.*, ts_rank(b.description_tsv, q.query) AS rank
+                FROM bills b,
+                     (SELECT websearch_to_tsquery('portuguese', :query)
+                             || websearch_to_tsquery('simple', :query) AS query) q
+                WHERE b.description_tsv @@ q.query
+            ) hits
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BillSearchHitProjection> searchFirstByDescription(
+            @Param("query") String query,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT id, due_date AS "dueDate", payment_date AS "paymentDate", amount, description, status, rank
+            FROM (
+                SELECT b.*, ts_rank(b.description_tsv, q.query) AS rank
+                FROM bills b,
+                     (SELECT websearch_to_tsquery('portuguese', :query)
+                             || websearch_to_tsquery('simple', :query) AS query) q
+                WHERE b.description_tsv @@ q.query
+            ) hits
+            WHERE (rank, id) < (CAST(:afterRank AS real), :afterId)
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BillSearchHitProjection> searchNextByDescription(
+            @Param("query") String query,
+            @Param("afterRank") float afterRank,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = """
+            SELECT id, due_date AS "dueDate", payment_date AS "paymentDate", amount, description, status
+            FROM bills
+            WHERE due_date BETWEEN :startDate AND :endDate
+            ORDER BY due_date, id
+            """, nativeQuery = true)
+    Stream<BillRowProjection> streamByDueDate(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 
     List<BillJpaEntity> findByPaymentDateBetween(
@@ -22,9 +119,36 @@ public interface BillJpaRepository extends JpaRepository<BillJpaEntity, Long> {
             LocalDate endDate
     );
 
-    long countByDueDateBetweenAndDescriptionContainingIgnoreCase(
-            LocalDate startDate,
-            LocalDate endDate,
-            String description
+    @Query("""
+            select sum(b.amount) as totalAmount, count(b) as billCount
+            from BillJpaEntity b
+            where b.paymentDate between :startDate and :endDate
+            """)
+    PaidTotalProjection sumPaidByPaymentDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE bills SET status = 'OVERDUE', updated_at = CURRENT_TIMESTAMP
+            WHERE status = 'PENDING' AND id IN (
+                SELECT id FROM bills
+                WHERE status = 'PENDING' AND due_date < :today
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int markOverdue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT count(*) FROM bills
+            WHERE due_date BETWEEN :startDate AND :endDate
+              AND lower(description) LIKE lower(:descriptionPattern)
+            """, nativeQuery = true)
+    long countByDueDate(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("descriptionPattern") String descriptionPattern
     );
 }
\ No newline at end of file
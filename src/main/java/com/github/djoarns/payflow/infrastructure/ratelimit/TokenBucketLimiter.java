@@ -0,0 +1,102 @@
+package com.github.djoarns.payflow.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by a 64-bit hash, held in a fixed-size table.
+ *
+ * <p>Each bucket is a single {@code long}: the theoretical arrival time of the next
+ * request (GCRA), which behaves exactly like a bucket of {@code capacity} tokens
+ * refilled one per {@code refillPeriod}. A slot whose arrival time has passed holds
+ * a full bucket, so it can be reused for another key without losing anything.
+ * Keys probe a small window of slots. When none is free, the least restricted slot
+ * in the window is evicted, so memory stays fixed however many keys are seen.
+ */
+public class TokenBucketLimiter {
+    private static final int WAYS = 8;
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long interval;
+    private final long tolerance;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    public TokenBucketLimiter(int capacity, Duration refillPeriod, int maxEntries) {
+        this(capacity, refillPeriod, maxEntries, System::nanoTime);
+    }
+
+    TokenBucketLimiter(int capacity, Duration refillPeriod, int maxEntries, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        int size = Math.max(WAYS, Integer.highestOneBit(Math.max(1, maxEntries - 1)) << 1);
+        this.keys = new AtomicLongArray(size);
+        this.arrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.interval = refillPeriod.toNanos();
+        this.tolerance = interval * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long key) {
+        if (key == EMPTY) {
+            key = 1L;
+        }
+        long now = nanoClock.getAsLong() - origin + 1;
+        int base = (int) (key ^ (key >>> 32)) & mask;
+        while (true) {
+            int victim = -1;
+            long victimKey = EMPTY;
+            long victimArrival = Long.MAX_VALUE;
+            for (int i = 0; i < WAYS; i++) {
+                int slot = (base + i) & mask;
+                long slotKey = keys.get(slot);
+                if (slotKey == key) {
+                    return take(slot, now);
+                }
+                long arrival = slotKey == EMPTY ? Long.MIN_VALUE : arrivals.get(slot);
+                if (arrival < victimArrival) {
+                    victim = slot;
+                    victimKey = slotKey;
+                    victimArrival = arrival;
+                }
+            }
+            if (keys.compareAndSet(victim, victimKey, key)) {
+                // Start from a full bucket unless the slot changed since it was inspected.
+                if (victimKey != EMPTY) {
+                    arrivals.compareAndSet(victim, victimArrival, EMPTY);
+                }
+                return take(victim, now);
+            }
+        }
+    }
+
+    int capacity() {
+        return keys.length();
+    }
+
+    private long take(int slot, long now) {
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now);
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(slot, arrival, next + interval)) {
+                return 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.djoarns.payflow.infrastructure.scheduling;
+
+import com.github.djoarns.payflow.application.bill.usecase.ReconcileBillDailyTotalsUseCase;
+import com.github.djoarns.payflow.infrastructure.cluster.ClusterCoordinator;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BillDailyTotalsReconciliationJob {
+    private final ReconcileBillDailyTotalsUseCase reconcileBillDailyTotalsUseCase;
+    private final ClusterCoordinator clusterCoordinator;
+    private final PaidTotalsIndex paidTotalsIndex;
+
+    /**
+     * One node repairs the shared table; the others still rebuild their own in-memory index.
+     */
+    @Scheduled(cron = "${payflow.bills.daily-totals.reconcile-cron}")
+    public void reconcile() {
+        if (!clusterCoordinator.runExclusively("bill-daily-totals-reconcile", reconcileBillDailyTotalsUseCase::execute)) {
+            paidTotalsIndex.rebuild();
+        }
+    }
+}
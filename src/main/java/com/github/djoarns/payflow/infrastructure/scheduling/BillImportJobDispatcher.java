@@ -0,0 +1,100 @@
+package com.github.djoarns.payflow.infrastructure.scheduling;
+
+import com.github.djoarns.payflow.application.bill.usecase.RunBillImportJobUseCase;
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.infrastructure.importjob.BillImportSpool;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands import jobs to a bounded worker pool. Jobs that do not fit stay QUEUED in the
+ * database and are picked up by the next poll, which also resumes jobs left behind by a restart.
+ */
+@Slf4j
+@Component
+public class BillImportJobDispatcher {
+    private final RunBillImportJobUseCase runBillImportJobUseCase;
+    private final BillImportJobRepository jobRepository;
+    private final BillImportSpool spool;
+    private final Duration staleAfter;
+    private final int queueCapacity;
+    private final ThreadPoolTaskExecutor executor;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public BillImportJobDispatcher(
+            RunBillImportJobUseCase runBillImportJobUseCase,
+            BillImportJobRepository jobRepository,
+            BillImportSpool spool,
+            @Value("${payflow.bills.import.workers}") int workers,
+            @Value("${payflow.bills.import.queue-capacity}") int queueCapacity,
+            @Value("${payflow.bills.import.stale-after}") Duration staleAfter
+    ) {
+        this.runBillImportJobUseCase = runBillImportJobUseCase;
+        this.jobRepository = jobRepository;
+        this.spool = spool;
+        this.staleAfter = staleAfter;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bill-import-");
+        executor.initialize();
+    }
+
+    public boolean dispatch(UUID jobId) {
+        if (!pending.add(jobId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runBillImportJobUseCase.execute(jobId);
+                } finally {
+                    pending.remove(jobId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            pending.remove(jobId);
+            log.info("Import workers are busy, job {} stays queued", jobId);
+            return false;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${payflow.bills.import.poll-interval}")
+    public void poll() {
+        var staleBefore = LocalDateTime.now().minus(staleAfter);
+        for (var job : jobRepository.findDispatchable(staleBefore, queueCapacity)) {
+            if (pending.contains(job.getId()) || !spool.exists(job.getSpoolPath())) {
+                continue;
+            }
+            if (!dispatch(job.getId())) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.djoarns.payflow.infrastructure.scheduling;
+
+import com.github.djoarns.payflow.application.bill.usecase.MarkOverdueBillsUseCase;
+import com.github.djoarns.payflow.infrastructure.cluster.ClusterSingleton;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BillOverdueSweepJob {
+    private final MarkOverdueBillsUseCase markOverdueBillsUseCase;
+
+    @Scheduled(cron = "${payflow.bills.overdue-sweep.cron}")
+    @ClusterSingleton("bill-overdue-sweep")
+    public void sweep() {
+        markOverdueBillsUseCase.execute();
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.djoarns.payflow.infrastructure.scheduling;
+
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaidTotalsIndexRefreshJob {
+    private final PaidTotalsIndex paidTotalsIndex;
+
+    /**
+     * Every replica refreshes its own index, picking up payments made on the other nodes.
+     */
+    @Scheduled(
+            fixedDelayString = "${payflow.bills.paid-index.refresh-interval}",
+            initialDelayString = "${payflow.bills.paid-index.refresh-interval}"
+    )
+    public void refresh() {
+        paidTotalsIndex.rebuild();
+    }
+}
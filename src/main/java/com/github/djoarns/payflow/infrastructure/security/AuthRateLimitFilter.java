@@ -0,0 +1,228 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.djoarns.payflow.application.bill.dto.response.ErrorResponseDTO;
+import com.github.djoarns.payflow.infrastructure.hash.Hash64;
+import com.github.djoarns.payflow.infrastructure.ratelimit.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles {@code /api/v1/auth/**} per client address and per username before any
+ * password is hashed. The username is read from the JSON body, which is then replayed
+ * unchanged to the controller. The client address is {@link HttpServletRequest#getRemoteAddr()},
+ * which reflects X-Forwarded-For only for requests from {@code server.tomcat.remoteip.internal-proxies}.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+    private static final String AUTH_PATH = "/api/v1/auth/";
+    private static final int MAX_INSPECTED_BODY_BYTES = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final TokenBucketLimiter addressLimiter;
+    private final TokenBucketLimiter usernameLimiter;
+    private final Counter addressRejections;
+    private final Counter usernameRejections;
+
+    public AuthRateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${payflow.auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${payflow.auth.rate-limit.address.capacity:20}") int addressCapacity,
+            @Value("${payflow.auth.rate-limit.address.refill-period:PT3S}") Duration addressRefillPeriod,
+            @Value("${payflow.auth.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${payflow.auth.rate-limit.username.refill-period:PT12S}") Duration usernameRefillPeriod,
+            @Value("${payflow.auth.rate-limit.max-entries:65536}") int maxEntries
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.addressLimiter = new TokenBucketLimiter(addressCapacity, addressRefillPeriod, maxEntries);
+        this.usernameLimiter = new TokenBucketLimiter(usernameCapacity, usernameRefillPeriod, maxEntries);
+        this.addressRejections = rejections(meterRegistry, "address");
+        this.usernameRejections = rejections(meterRegistry, "username");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + AUTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        long wait = addressLimiter.tryAcquire(Hash64.of(request.getRemoteAddr()));
+        if (wait > 0) {
+            addressRejections.increment();
+            reject(response, wait);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        if ("POST".equals(request.getMethod())) {
+            var replayable = new ReplayableRequest(request);
+            String username = replayable.username(objectMapper);
+            if (username != null) {
+                wait = usernameLimiter.tryAcquire(Hash64.of(username));
+                if (wait > 0) {
+                    usernameRejections.increment();
+                    reject(response, wait);
+                    return;
+                }
+            }
+            forwarded = replayable;
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + second - 1) / second);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDTO(
+                "Too many authentication attempts, please retry later",
+                "RATE_LIMITED",
+                LocalDateTime.now()
+        ));
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("payflow.auth.rate-limit.rejected")
+                .description("Authentication requests rejected by the rate limiter")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers the start of the body so the username can be read, then serves the
+     * buffered bytes followed by whatever was not read.
+     */
+    private static final class ReplayableRequest extends HttpServletRequestWrapper {
+        private final byte[] head;
+        private final boolean complete;
+        private ServletInputStream stream;
+
+        private ReplayableRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            byte[] read = request.getInputStream().readNBytes(MAX_INSPECTED_BODY_BYTES + 1);
+            this.complete = read.length <= MAX_INSPECTED_BODY_BYTES;
+            this.head = read;
+        }
+
+        private String username(ObjectMapper objectMapper) {
+            if (!complete || head.length == 0) {
+                return null;
+            }
+            try (JsonParser parser = objectMapper.getFactory().createParser(head)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("username".equals(field) && value == JsonToken.VALUE_STRING) {
+                        return parser.getText();
+                    }
+                    parser.skipChildren();
+                }
+                return null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (stream == null) {
+                InputStream body = complete
+                        ? new ByteArrayInputStream(head)
+                        : new SequenceInputStream(new ByteArrayInputStream(head), super.getInputStream());
+                stream = new DelegatingServletInputStream(body);
+            }
+            return stream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class DelegatingServletInputStream extends ServletInputStream {
+        private final InputStream delegate;
+        private boolean finished;
+
+        private DelegatingServletInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = delegate.read(buffer, offset, length);
+            finished = n < 0;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reads are not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
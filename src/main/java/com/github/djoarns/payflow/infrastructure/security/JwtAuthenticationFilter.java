@@ -4,10 +4,12 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,10 +18,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final JwtRevocationList revocationList;
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            JwtRevocationList revocationList,
+            @Value("${jwt.stateless:false}") boolean stateless
+    ) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -34,11 +49,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username = jwtService.extractUsername(jwt);
+        final JwtToken token = jwtService.parse(jwt);
+        final String username = token.username();
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+        if (username != null
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !revocationList.isRevoked(token)) {
+            var userDetails = authenticate(token);
+            if (userDetails != null) {
                 var authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -50,4 +68,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * In stateless mode a token carrying signed roles is trusted as-is; tokens
+     * without them, and every token otherwise, are checked against the stored user.
+     */
+    private UserDetails authenticate(JwtToken token) {
+        if (stateless && token.hasAuthorityClaims()) {
+            if (!jwtService.isTokenValid(token)) {
+                return null;
+            }
+            return User.withUsername(token.username())
+                    .password("")
+                    .authorities(token.authorities())
+                    .build();
+        }
+        var userDetails = userDetailsService.loadUserByUsername(token.username());
+        return jwtService.isTokenValid(token, userDetails) ? userDetails : null;
+    }
 }
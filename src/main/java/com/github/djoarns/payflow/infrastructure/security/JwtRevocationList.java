@@ -0,0 +1,63 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory denylist holding one cut-off instant per user: tokens issued at or
+ * before it are rejected. Entries are dropped once every token they could match
+ * has expired, so the map only ever holds users revoked within one token lifetime. The list is
+ * local to this node; {@code UserRepositoryImpl.save} records a revocation whenever a user changes.
+ */
+@Component
+public class JwtRevocationList {
+    private final Map<String, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration tokenLifetime;
+    private final Clock clock;
+
+    public JwtRevocationList(@Value("${jwt.expiration}") long jwtExpiration) {
+        this(Duration.ofMillis(jwtExpiration), Clock.systemUTC());
+    }
+
+    JwtRevocationList(Duration tokenLifetime, Clock clock) {
+        this.tokenLifetime = tokenLifetime;
+        this.clock = clock;
+    }
+
+    /**
+     * Revokes every token issued to {@code username} so far. The {@code iat}
+     * claim only has second precision, so a token issued in the same second
+     * is revoked as well.
+     */
+    public void revokeAll(String username) {
+        Instant now = clock.instant();
+        revokedBefore.merge(username, now.truncatedTo(ChronoUnit.SECONDS), (a, b) -> a.isAfter(b) ? a : b);
+        purge(now);
+    }
+
+    public boolean isRevoked(JwtToken token) {
+        Instant cutoff = revokedBefore.get(token.username());
+        if (cutoff == null) {
+            return false;
+        }
+        Date issuedAt = token.issuedAt();
+        return issuedAt == null || !issuedAt.toInstant().isAfter(cutoff);
+    }
+
+    int size() {
+        return revokedBefore.size();
+    }
+
+    private void purge(Instant now) {
+        Instant oldestLiveIssue = now.minus(tokenLifetime);
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(oldestLiveIssue));
+    }
+}
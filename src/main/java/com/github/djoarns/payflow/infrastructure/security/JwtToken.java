@@ -0,0 +1,51 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A token whose signature has already been verified, so its claims can be read
+ * repeatedly without parsing the compact string again.
+ */
+public record JwtToken(String username, Date expiration, Claims claims) {
+    static final String ROLES_CLAIM = "roles";
+    static final String ENABLED_CLAIM = "enabled";
+
+    static JwtToken of(Claims claims) {
+        return new JwtToken(claims.getSubject(), claims.getExpiration(), claims);
+    }
+
+    public boolean isExpired(Date now) {
+        return expiration != null && expiration.before(now);
+    }
+
+    public Date issuedAt() {
+        return claims == null ? null : claims.getIssuedAt();
+    }
+
+    /**
+     * Whether the token carries the signed roles and enabled flag needed to
+     * authenticate without loading the user. Tokens issued before these claims
+     * existed do not.
+     */
+    public boolean hasAuthorityClaims() {
+        return claims != null
+                && claims.get(ROLES_CLAIM) instanceof Collection<?>
+                && claims.get(ENABLED_CLAIM) instanceof Boolean;
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class));
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return ((Collection<?>) claims.get(ROLES_CLAIM)).stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on its own bounded pool so a burst of logins cannot take every
+ * request thread's CPU. When the queue is full the caller is turned away immediately
+ * instead of waiting behind it.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            @Value("${payflow.auth.password-hashing.workers:2}") int workers,
+            @Value("${payflow.auth.password-hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${payflow.auth.password-hashing.retry-after:PT1S}") Duration retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        this.retryAfter = retryAfter;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        Gauge.builder("payflow.auth.password-hashing.queue", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("payflow.auth.password-hashing.rejected")
+                .description("Password hashing tasks turned away because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} on the hashing pool and waits for its result.
+     *
+     * @throws PasswordHashingUnavailableException if the queue is full
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder("payflow.auth.password-hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashingUnavailableException(retryAfter);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+}
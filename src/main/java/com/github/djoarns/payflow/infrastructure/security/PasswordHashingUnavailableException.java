@@ -0,0 +1,15 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(Duration retryAfter) {
+        super("Password hashing capacity exhausted");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,6 +1,6 @@
 package com.github.djoarns.payflow.infrastructure.security;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,9 +12,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
-@RequiredArgsConstructor
 public class SecurityBeans {
     private final UserDetailsService userDetailsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final int bcryptStrength;
+
+    public SecurityBeans(
+            UserDetailsService userDetailsService,
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${payflow.auth.bcrypt.strength:10}") int bcryptStrength
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.bcryptStrength = bcryptStrength;
+    }
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
@@ -31,6 +42,6 @@ public class SecurityBeans {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor);
     }
 }
\ No newline at end of file
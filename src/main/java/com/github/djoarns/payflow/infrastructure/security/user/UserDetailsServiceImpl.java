@@ -2,24 +2,28 @@ package com.github.djoarns.payflow.infrastructure.security.user;
 
 import com.github.djoarns.payflow.domain.user.UserRepository;
 import com.github.djoarns.payflow.domain.user.valueobject.Username;
+import com.github.djoarns.payflow.infrastructure.cache.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::load);
+    }
+
+    private UserDetails load(String username) {
         return userRepository
                 .findByUsername(Username.of(username))
                 .map(UserDetailsImpl::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
-}
\ No newline at end of file
+}
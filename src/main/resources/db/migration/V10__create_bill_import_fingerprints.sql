@@ -0,0 +1,31 @@
+-- Fingerprints of every bill row ever imported, used to drop duplicate rows
+CREATE TABLE bill_import_fingerprints (
+                                          fingerprint BYTEA PRIMARY KEY,
+                                          created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- SHA-256 of every CSV file that finished importing, used to skip re-sent files
+CREATE TABLE bill_import_files (
+                                   sha256 CHAR(64) PRIMARY KEY,
+                                   filename VARCHAR(255),
+                                   imported_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE bill_import_jobs
+    ADD COLUMN file_sha256 CHAR(64),
+    ADD COLUMN rows_duplicated BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill with the formula of BillFingerprint: due date | amount | collapsed, lower-cased description
+INSERT INTO bill_import_fingerprints (fingerprint)
+SELECT DISTINCT sha256(convert_to(
+        to_char(due_date, 'YYYY-MM-DD') || '|' || amount::text || '|'
+            || lower(btrim(regexp_replace(description, '\s+', ' ', 'g'))),
+        'UTF8'))
+FROM bills
+ON CONFLICT (fingerprint) DO NOTHING;
+
+-- Add comments
+COMMENT ON TABLE bill_import_fingerprints IS 'SHA-256 of due date, amount and normalized description of imported bills';
+COMMENT ON TABLE bill_import_files IS 'SHA-256 of CSV files that were fully imported';
+COMMENT ON COLUMN bill_import_jobs.file_sha256 IS 'SHA-256 of the spooled upload';
+COMMENT ON COLUMN bill_import_jobs.rows_duplicated IS 'Valid rows skipped because an identical bill was already imported';
@@ -0,0 +1,3 @@
+-- The overdue sweep looks for PENDING bills past their due date. A partial index keeps only
+-- the rows that can still transition, so it stays small however many bills are settled.
+CREATE INDEX idx_bills_pending_due_date ON bills(due_date) WHERE status = 'PENDING';
@@ -0,0 +1,23 @@
+-- BillFingerprint now normalizes descriptions the same way here and in Java: only ASCII
+-- whitespace is collapsed and trimmed and only A-Z is lower-cased, so the hash no longer depends
+-- on the database collation. Re-key only the bills whose V10-formula hash is already stored, so
+-- bills created through the API stay unclaimed. Old hashes stay but are never produced again.
+WITH claimed AS (
+    SELECT b.due_date, b.amount, b.description
+    FROM bills b
+    JOIN bill_import_fingerprints f
+      ON f.fingerprint = sha256(convert_to(
+            to_char(b.due_date, 'YYYY-MM-DD') || '|' || b.amount::text || '|'
+                || lower(btrim(regexp_replace(b.description, '\s+', ' ', 'g'))),
+            'UTF8'))
+)
+INSERT INTO bill_import_fingerprints (fingerprint)
+SELECT DISTINCT sha256(convert_to(
+        to_char(due_date, 'YYYY-MM-DD') || '|' || amount::text || '|'
+            || translate(btrim(regexp_replace(description, '[ \t\n\r\f\v]+', ' ', 'g'), ' '),
+                         'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'),
+        'UTF8'))
+FROM claimed
+ON CONFLICT (fingerprint) DO NOTHING;
+
+COMMENT ON TABLE bill_import_fingerprints IS 'SHA-256 of due date, amount and normalized description of imported bills';
@@ -0,0 +1,23 @@
+-- Create daily paid-totals rollup table
+CREATE TABLE bill_daily_totals (
+                                   payment_date DATE PRIMARY KEY,
+                                   total_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+                                   bill_count BIGINT NOT NULL DEFAULT 0,
+                                   updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                   CONSTRAINT bill_daily_totals_non_negative CHECK (total_amount >= 0 AND bill_count >= 0)
+);
+
+-- Backfill from existing paid bills
+INSERT INTO bill_daily_totals (payment_date, total_amount, bill_count)
+SELECT payment_date, SUM(amount), COUNT(*)
+FROM bills
+WHERE payment_date IS NOT NULL
+GROUP BY payment_date;
+
+-- Add comments
+COMMENT ON TABLE bill_daily_totals IS 'Pre-aggregated paid totals per payment date';
+COMMENT ON COLUMN bill_daily_totals.payment_date IS 'Payment date the totals refer to';
+COMMENT ON COLUMN bill_daily_totals.total_amount IS 'Sum of the amounts of bills paid on this date';
+COMMENT ON COLUMN bill_daily_totals.bill_count IS 'Number of bills paid on this date';
+COMMENT ON COLUMN bill_daily_totals.updated_at IS 'Timestamp when the totals were last updated';
@@ -0,0 +1,3 @@
+-- Keyset pagination orders by (due_date, id); the composite index also serves due_date range filters
+CREATE INDEX idx_bills_due_date_id ON bills(due_date, id);
+DROP INDEX idx_bills_due_date;
@@ -0,0 +1,10 @@
+-- Case-insensitive substring search on description uses lower(description) LIKE '%term%'.
+-- A btree (varchar_pattern_ops) index only serves left-anchored, case-sensitive patterns,
+-- so replace it with a trigram GIN index on the folded expression.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_bills_description_trgm ON bills USING GIN (lower(description) gin_trgm_ops);
+
+DROP INDEX IF EXISTS idx_bills_description_pattern;
+
+COMMENT ON INDEX idx_bills_description_trgm IS 'Trigram index for case-insensitive substring search on description';
@@ -0,0 +1,10 @@
+-- Full-text search over descriptions: Portuguese stemming ranks above exact-token matches
+ALTER TABLE bills
+    ADD COLUMN description_tsv TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, description), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, description), 'B')
+    ) STORED;
+
+CREATE INDEX idx_bills_description_tsv ON bills USING GIN (description_tsv);
+
+COMMENT ON COLUMN bills.description_tsv IS 'Search vector of description (portuguese weight A, simple weight B)';
@@ -0,0 +1,3 @@
+-- Hibernate allocates bill ids in blocks of 100 (pooled-lo), so the sequence must step by the block size.
+-- Values handed out by the column default stay collision-free: each nextval starts a fresh block.
+ALTER SEQUENCE bills_id_seq INCREMENT BY 100;
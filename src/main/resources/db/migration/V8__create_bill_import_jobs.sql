@@ -0,0 +1,31 @@
+-- Create asynchronous CSV import jobs table
+CREATE TABLE bill_import_jobs (
+                                  id UUID PRIMARY KEY,
+                                  filename VARCHAR(255),
+                                  spool_path VARCHAR(1024) NOT NULL,
+                                  mode VARCHAR(10) NOT NULL,
+                                  status VARCHAR(20) NOT NULL,
+                                  total_bytes BIGINT NOT NULL DEFAULT 0,
+                                  bytes_read BIGINT NOT NULL DEFAULT 0,
+                                  rows_processed BIGINT NOT NULL DEFAULT 0,
+                                  rows_succeeded BIGINT NOT NULL DEFAULT 0,
+                                  rows_rejected BIGINT NOT NULL DEFAULT 0,
+                                  chunks_committed INTEGER NOT NULL DEFAULT 0,
+                                  message VARCHAR(1000),
+                                  created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  started_at TIMESTAMP WITH TIME ZONE,
+                                  updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  finished_at TIMESTAMP WITH TIME ZONE,
+
+                                  CONSTRAINT bill_import_jobs_status_check CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- Only unfinished jobs are ever scanned for dispatch
+CREATE INDEX idx_bill_import_jobs_unfinished ON bill_import_jobs(created_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Add comments
+COMMENT ON TABLE bill_import_jobs IS 'Asynchronous CSV bill import jobs';
+COMMENT ON COLUMN bill_import_jobs.spool_path IS 'Local path of the spooled upload being imported';
+COMMENT ON COLUMN bill_import_jobs.rows_processed IS 'CSV rows covered by committed chunks, used to resume after a restart';
+COMMENT ON COLUMN bill_import_jobs.updated_at IS 'Heartbeat refreshed on every committed chunk';
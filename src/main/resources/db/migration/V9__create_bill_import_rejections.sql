@@ -0,0 +1,14 @@
+-- Create per-row rejection report for import jobs
+CREATE TABLE bill_import_rejections (
+                                        job_id UUID NOT NULL REFERENCES bill_import_jobs(id) ON DELETE CASCADE,
+                                        line BIGINT NOT NULL,
+                                        column_name VARCHAR(50),
+                                        reason VARCHAR(500) NOT NULL,
+
+                                        PRIMARY KEY (job_id, line)
+);
+
+-- Add comments
+COMMENT ON TABLE bill_import_rejections IS 'Rows rejected by an import job, capped per job';
+COMMENT ON COLUMN bill_import_rejections.line IS 'Physical CSV line the rejected record starts on';
+COMMENT ON COLUMN bill_import_rejections.column_name IS 'Column that failed validation, if known';
@@ -153,7 +153,7 @@ class BillCommandTest extends BaseUnitTest {
             int size = 10;
 
             // Act
-            var command = new BillCommand.List(startDate, endDate, description, page, size);
+            var command = new BillCommand.List(startDate, endDate, description, page, size, PaginationMode.OFFSET, null, TotalMode.EXACT);
 
             // Assert
             assertNotNull(command);
@@ -168,7 +168,7 @@ class BillCommandTest extends BaseUnitTest {
         @DisplayName("Should allow null dates and description")
         void shouldAllowNullDatesAndDescription() {
             // Act
-            var command = new BillCommand.List(null, null, null, 0, 10);
+            var command = new BillCommand.List(null, null, null, 0, 10, null, null, null);
 
             // Assert
             assertNotNull(command);
@@ -189,7 +189,10 @@ class BillCommandTest extends BaseUnitTest {
                     LocalDate.now().plusMonths(1),
                     "Test",
                     page,
-                    size
+                    size,
+                    PaginationMode.OFFSET,
+                    null,
+                    TotalMode.EXACT
             );
 
             // Assert
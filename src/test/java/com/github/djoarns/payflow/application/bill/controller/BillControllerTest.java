@@ -1,5 +1,10 @@
 package com.github.djoarns.payflow.application.bill.controller;
 
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.ExportFormat;
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.dto.request.BillRequestDTO;
 import com.github.djoarns.payflow.application.bill.dto.response.BillResponseDTO;
 import com.github.djoarns.payflow.application.bill.mapper.BillRequestMapper;
@@ -8,6 +13,7 @@ import com.github.djoarns.payflow.application.bill.result.BillImportResult;
 import com.github.djoarns.payflow.application.bill.result.BillResult;
 import com.github.djoarns.payflow.application.bill.usecase.*;
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
 import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
 import com.github.djoarns.payflow.domain.bill.valueobject.Description;
 import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
@@ -20,14 +26,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HexFormat;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -39,18 +51,32 @@ class BillControllerTest extends BaseUnitTest {
     @Mock
     private CreateBillUseCase createBillUseCase;
     @Mock
+    private CreateBillsBatchUseCase createBillsBatchUseCase;
+    @Mock
     private UpdateBillUseCase updateBillUseCase;
     @Mock
     private PayBillUseCase payBillUseCase;
     @Mock
+    private PayBillsUseCase payBillsUseCase;
+    @Mock
     private FindBillUseCase findBillUseCase;
     @Mock
     private ListBillsUseCase listBillsUseCase;
     @Mock
+    private SearchBillsUseCase searchBillsUseCase;
+    @Mock
+    private ExportBillsUseCase exportBillsUseCase;
+    @Mock
     private CalculateTotalPaidUseCase calculateTotalPaidUseCase;
     @Mock
     private ImportBillsUseCase importBillsUseCase;
     @Mock
+    private SubmitBillImportJobUseCase submitBillImportJobUseCase;
+    @Mock
+    private FindBillImportJobUseCase findBillImportJobUseCase;
+    @Mock
+    private ExportBillImportRejectionsUseCase exportBillImportRejectionsUseCase;
+    @Mock
     private ChangeBillStatusUseCase changeBillStatusUseCase;
     @Mock
     private BillRequestMapper requestMapper;
@@ -63,12 +89,19 @@ class BillControllerTest extends BaseUnitTest {
     void setUp() {
         controller = new BillController(
                 createBillUseCase,
+                createBillsBatchUseCase,
                 updateBillUseCase,
                 payBillUseCase,
+                payBillsUseCase,
                 listBillsUseCase,
+                searchBillsUseCase,
+                exportBillsUseCase,
                 findBillUseCase,
                 calculateTotalPaidUseCase,
                 importBillsUseCase,
+                submitBillImportJobUseCase,
+                findBillImportJobUseCase,
+                exportBillImportRejectionsUseCase,
                 changeBillStatusUseCase,
                 requestMapper,
                 responseMapper
@@ -115,6 +148,26 @@ class BillControllerTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("createBatch")
+    class CreateBatch {
+        @Test
+        @DisplayName("Should stream batch results as NDJSON")
+        void shouldStreamBatchResults() throws Exception {
+            // Arrange
+            var request = new MockHttpServletRequest("POST", "/api/v1/bills/batch");
+            request.setContent("{}\n".getBytes(StandardCharsets.UTF_8));
+            var response = new MockHttpServletResponse();
+
+            // Act
+            controller.createBatch(request, response);
+
+            // Assert
+            assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+            verify(createBillsBatchUseCase).execute(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("update")
     class Update {
@@ -178,6 +231,38 @@ class BillControllerTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("payAll")
+    class PayAll {
+        @Test
+        @DisplayName("Should report paid and rejected bills")
+        void shouldReportPaidAndRejectedBills() {
+            // Arrange
+            var request = new BillRequestDTO.PayAll(java.util.List.of(1L, 2L), LocalDate.now());
+            var result = new BillResult.PayAll(
+                    java.util.List.of(createTestBill()),
+                    java.util.List.of(new BillResult.PayAll.Rejection(2L, "Bill not found"))
+            );
+            var response = new BillResponseDTO.PayAll(
+                    1,
+                    java.util.List.of(1L),
+                    java.util.List.of(new BillResponseDTO.PayRejection(2L, "Bill not found"))
+            );
+
+            when(requestMapper.toPayAllCommand(request))
+                    .thenReturn(new BillCommand.PayAll(request.ids(), request.paymentDate()));
+            when(payBillsUseCase.execute(any())).thenReturn(result);
+            when(responseMapper.toPayAllDTO(result)).thenReturn(response);
+
+            // Act
+            var entity = controller.payAll(request);
+
+            // Assert
+            assertEquals(200, entity.getStatusCode().value());
+            assertEquals(response, entity.getBody());
+        }
+    }
+
     @Nested
     @DisplayName("find")
     class Find {
@@ -234,7 +319,7 @@ class BillControllerTest extends BaseUnitTest {
                     .thenReturn(pageResponse);
 
             // Act
-            var result = controller.list(startDate, endDate, description, page, size);
+            var result = controller.list(startDate, endDate, description, page, size, PaginationMode.OFFSET, null, TotalMode.EXACT);
 
             // Assert
             assertNotNull(result);
@@ -245,6 +330,77 @@ class BillControllerTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("search")
+    class Search {
+        @Test
+        @DisplayName("Should search bills successfully")
+        void shouldSearchBillsSuccessfully() {
+            // Arrange
+            var command = new BillCommand.Search("internet", 10, null);
+            var searchResult = new BillResult.SearchPage(Collections.emptyList(), 10, false, null);
+            var response = new BillResponseDTO.SearchPage(Collections.emptyList(), 10, false, null);
+
+            when(requestMapper.toSearchCommand(new BillRequestDTO.TextSearch("internet", 10, null)))
+                    .thenReturn(command);
+            when(searchBillsUseCase.execute(command)).thenReturn(searchResult);
+            when(responseMapper.toSearchPageDTO(searchResult)).thenReturn(response);
+
+            // Act
+            var result = controller.search("internet", 10, null);
+
+            // Assert
+            assertEquals(200, result.getStatusCode().value());
+            assertEquals(response, result.getBody());
+            verify(searchBillsUseCase).execute(command);
+        }
+    }
+
+    @Nested
+    @DisplayName("export")
+    class Export {
+        @Test
+        @DisplayName("Should stream CSV export as attachment")
+        void shouldStreamCsvExportAsAttachment() throws Exception {
+            // Arrange
+            var startDate = LocalDate.of(2024, 1, 1);
+            var endDate = LocalDate.of(2024, 3, 31);
+            var response = new MockHttpServletResponse();
+
+            // Act
+            controller.export(startDate, endDate, ExportFormat.CSV, response);
+
+            // Assert
+            assertEquals("text/csv;charset=UTF-8", response.getContentType());
+            assertEquals(
+                    "attachment; filename=\"bills-2024-01-01-2024-03-31.csv\"",
+                    response.getHeader("Content-Disposition")
+            );
+            verify(exportBillsUseCase).execute(
+                    eq(new BillCommand.Export(startDate, endDate, ExportFormat.CSV)),
+                    any()
+            );
+        }
+
+        @Test
+        @DisplayName("Should stream NDJSON export")
+        void shouldStreamNdjsonExport() throws Exception {
+            // Arrange
+            var date = LocalDate.of(2024, 1, 1);
+            var response = new MockHttpServletResponse();
+
+            // Act
+            controller.export(date, date, ExportFormat.NDJSON, response);
+
+            // Assert
+            assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+            verify(exportBillsUseCase).execute(
+                    eq(new BillCommand.Export(date, date, ExportFormat.NDJSON)),
+                    any()
+            );
+        }
+    }
+
     @Nested
     @DisplayName("calculateTotalPaid")
     class CalculateTotalPaid {
@@ -258,7 +414,7 @@ class BillControllerTest extends BaseUnitTest {
             var response = createTestTotalPaidResponse();
 
             when(calculateTotalPaidUseCase.execute(any()))
-                    .thenReturn(new BillResult.TotalPaid(amount));
+                    .thenReturn(new BillResult.TotalPaid(amount, 1));
             when(responseMapper.toTotalPaidDTO(any(), eq(startDate), eq(endDate)))
                     .thenReturn(response);
 
@@ -279,7 +435,7 @@ class BillControllerTest extends BaseUnitTest {
     class Import {
         @Test
         @DisplayName("Should import bills successfully")
-        void shouldImportBillsSuccessfully() {
+        void shouldImportBillsSuccessfully() throws Exception {
             // Arrange
             MultipartFile file = new MockMultipartFile(
                     "file",
@@ -297,15 +453,58 @@ class BillControllerTest extends BaseUnitTest {
                     .thenReturn(response);
 
             // Act
-            var result = controller.importBills(file);
+            var result = controller.importBills(file, ImportMode.COPY);
 
             // Assert
             assertNotNull(result);
             assertEquals(200, result.getStatusCode().value());
             assertEquals(response, result.getBody());
-            verify(importBillsUseCase).execute(any());
+            var sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest("test data".getBytes()));
+            verify(importBillsUseCase).execute(argThat(command ->
+                    command.mode() == ImportMode.COPY && sha256.equals(command.sha256())));
             verify(responseMapper).toImportDTO(importResult);
         }
+
+        @Test
+        @DisplayName("Should accept an async import and point to its job")
+        void shouldAcceptAsyncImport() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bills/import");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            MultipartFile file = new MockMultipartFile("file", "test.csv", MediaType.TEXT_PLAIN_VALUE, "test data".getBytes());
+
+            var job = BillImportJob.queue(UUID.randomUUID(), "test.csv", "/tmp/job.csv", "JPA", null, 9, LocalDateTime.now());
+            var response = createTestImportJobResponse(job.getId());
+
+            when(submitBillImportJobUseCase.execute(any())).thenReturn(job);
+            when(responseMapper.toImportJobDTO(eq(job), any())).thenReturn(response);
+
+            // Act
+            var result = controller.submitImport(file, ImportMode.JPA);
+
+            // Assert
+            assertEquals(202, result.getStatusCode().value());
+            assertEquals(response, result.getBody());
+            assertEquals("/api/v1/bills/import/" + job.getId(), result.getHeaders().getLocation().getPath());
+        }
+
+        @Test
+        @DisplayName("Should return the progress of an import job")
+        void shouldReturnImportJobProgress() {
+            // Arrange
+            var job = BillImportJob.queue(UUID.randomUUID(), "test.csv", "/tmp/job.csv", "JPA", null, 9, LocalDateTime.now());
+            var response = createTestImportJobResponse(job.getId());
+
+            when(findBillImportJobUseCase.execute(job.getId())).thenReturn(job);
+            when(responseMapper.toImportJobDTO(eq(job), any())).thenReturn(response);
+
+            // Act
+            var result = controller.findImportJob(job.getId());
+
+            // Assert
+            assertEquals(200, result.getStatusCode().value());
+            assertEquals(response, result.getBody());
+        }
     }
 
     // Helper methods
@@ -333,16 +532,19 @@ class BillControllerTest extends BaseUnitTest {
                 Collections.singletonList(createTestBillResponse()),
                 1L,
                 1,
+                "EXACT",
                 0,
                 10,
                 false,
-                false
+                false,
+                null
         );
     }
 
     private BillResponseDTO.TotalPaid createTestTotalPaidResponse() {
         return new BillResponseDTO.TotalPaid(
                 new BigDecimal("100.00"),
+                1,
                 LocalDate.now().minusMonths(1),
                 LocalDate.now()
         );
@@ -353,7 +555,14 @@ class BillControllerTest extends BaseUnitTest {
                 10,
                 10,
                 0,
+                1,
                 "Success"
         );
     }
-}
\ No newline at end of file
+
+    private BillResponseDTO.ImportJob createTestImportJobResponse(UUID jobId) {
+        return new BillResponseDTO.ImportJob(
+                jobId, "QUEUED", "test.csv", "JPA", 0, 0, 0, 0, 0, null, null, null, LocalDateTime.now(), null, null
+        );
+    }
+}
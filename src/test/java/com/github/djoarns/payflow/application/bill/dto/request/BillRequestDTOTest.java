@@ -1,5 +1,7 @@
 package com.github.djoarns.payflow.application.bill.dto.request;
 
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.domain.bill.valueobject.Status;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import jakarta.validation.Validation;
@@ -237,7 +239,7 @@ class BillRequestDTOTest extends BaseUnitTest {
             int size = 10;
 
             // Act
-            var dto = new BillRequestDTO.Search(startDate, endDate, description, page, size);
+            var dto = new BillRequestDTO.Search(startDate, endDate, description, page, size, PaginationMode.OFFSET, null, TotalMode.EXACT);
 
             // Assert
             var violations = validator.validate(dto);
@@ -259,7 +261,10 @@ class BillRequestDTOTest extends BaseUnitTest {
                     LocalDate.now().plusMonths(1),
                     "Test",
                     page,
-                    size
+                    size,
+                    PaginationMode.OFFSET,
+                    null,
+                    TotalMode.EXACT
             );
 
             // Act
@@ -122,12 +122,14 @@ class BillResponseDTOTest extends BaseUnitTest {
             // Act
             var response = new BillResponseDTO.Page(
                     content,
-                    2,
+                    2L,
                     1,
+                    "EXACT",
                     0,
                     10,
                     false,
-                    false
+                    false,
+                    null
             );
 
             // Assert
@@ -147,12 +149,14 @@ class BillResponseDTOTest extends BaseUnitTest {
             // Act
             var response = new BillResponseDTO.Page(
                     Collections.emptyList(),
+                    0L,
                     0,
-                    0,
+                    "EXACT",
                     0,
                     10,
                     false,
-                    false
+                    false,
+                    null
             );
 
             // Assert
@@ -160,6 +164,29 @@ class BillResponseDTOTest extends BaseUnitTest {
             assertEquals(0, response.totalElements());
         }
 
+        @Test
+        @DisplayName("Should allow omitted totals")
+        void shouldAllowOmittedTotals() {
+            // Act
+            var response = new BillResponseDTO.Page(
+                    List.of(createSingleResponse(1L)),
+                    null,
+                    null,
+                    "OMITTED",
+                    0,
+                    10,
+                    true,
+                    false,
+                    null
+            );
+
+            // Assert
+            assertNull(response.totalElements());
+            assertNull(response.totalPages());
+            assertEquals("OMITTED", response.totalMode());
+            assertTrue(response.hasNext());
+        }
+
         @ParameterizedTest
         @MethodSource("paginationProvider")
         @DisplayName("Should handle different pagination scenarios")
@@ -177,10 +204,12 @@ class BillResponseDTOTest extends BaseUnitTest {
                     content,
                     totalElements,
                     totalPages,
+                    "EXACT",
                     page,
                     size,
                     hasNext,
-                    hasPrevious
+                    hasPrevious,
+                    null
             );
 
             // Assert
@@ -241,11 +270,12 @@ class BillResponseDTOTest extends BaseUnitTest {
             var endDate = LocalDate.now();
 
             // Act
-            var response = new BillResponseDTO.TotalPaid(totalAmount, startDate, endDate);
+            var response = new BillResponseDTO.TotalPaid(totalAmount, 4, startDate, endDate);
 
             // Assert
             assertNotNull(response);
             assertEquals(totalAmount, response.totalAmount());
+            assertEquals(4, response.billCount());
             assertEquals(startDate, response.startDate());
             assertEquals(endDate, response.endDate());
         }
@@ -256,6 +286,7 @@ class BillResponseDTOTest extends BaseUnitTest {
             // Act
             var response = new BillResponseDTO.TotalPaid(
                     BigDecimal.ZERO,
+                    0,
                     LocalDate.now(),
                     LocalDate.now()
             );
@@ -271,16 +302,19 @@ class BillResponseDTOTest extends BaseUnitTest {
             var date = LocalDate.now();
             var response1 = new BillResponseDTO.TotalPaid(
                     BigDecimal.ONE,
+                    0,
                     date,
                     date
             );
             var response2 = new BillResponseDTO.TotalPaid(
                     BigDecimal.ONE,
+                    0,
                     date,
                     date
             );
             var response3 = new BillResponseDTO.TotalPaid(
                     BigDecimal.TEN,
+                    0,
                     date,
                     date
             );
@@ -310,6 +344,7 @@ class BillResponseDTOTest extends BaseUnitTest {
                     totalProcessed,
                     successCount,
                     errorCount,
+                    2,
                     message
             );
 
@@ -318,6 +353,7 @@ class BillResponseDTOTest extends BaseUnitTest {
             assertEquals(totalProcessed, response.totalProcessed());
             assertEquals(successCount, response.successCount());
             assertEquals(errorCount, response.errorCount());
+            assertEquals(2, response.chunksCommitted());
             assertEquals(message, response.message());
         }
 
@@ -325,7 +361,7 @@ class BillResponseDTOTest extends BaseUnitTest {
         @DisplayName("Should handle zero counts")
         void shouldHandleZeroCounts() {
             // Act
-            var response = new BillResponseDTO.Import(0, 0, 0, "No bills processed");
+            var response = new BillResponseDTO.Import(0, 0, 0, 0, "No bills processed");
 
             // Assert
             assertEquals(0, response.totalProcessed());
@@ -337,7 +373,7 @@ class BillResponseDTOTest extends BaseUnitTest {
         @DisplayName("Should handle null message")
         void shouldHandleNullMessage() {
             // Act
-            var response = new BillResponseDTO.Import(1, 1, 0, null);
+            var response = new BillResponseDTO.Import(1, 1, 0, 1, null);
 
             // Assert
             assertNull(response.message());
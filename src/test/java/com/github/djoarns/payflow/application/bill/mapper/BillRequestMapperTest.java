@@ -1,6 +1,11 @@
 package com.github.djoarns.payflow.application.bill.mapper;
 
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.dto.request.BillRequestDTO;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillCursor;
+import com.github.djoarns.payflow.domain.bill.valueobject.SearchCursor;
 import com.github.djoarns.payflow.domain.bill.valueobject.Status;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -183,7 +188,10 @@ class BillRequestMapperTest extends BaseUnitTest {
                     LocalDate.now().plusMonths(1),
                     "Test",
                     0,
-                    10
+                    10,
+                    null,
+                    null,
+                    null
             );
 
             // Act
@@ -197,6 +205,95 @@ class BillRequestMapperTest extends BaseUnitTest {
             assertEquals(dto.size(), command.size());
         }
 
+        @Test
+        @DisplayName("Should default to offset pagination")
+        void shouldDefaultToOffsetPagination() {
+            // Arrange
+            var dto = new BillRequestDTO.Search(
+                    LocalDate.now(),
+                    LocalDate.now().plusMonths(1),
+                    "Test",
+                    0,
+                    10,
+                    null,
+                    null,
+                    null
+            );
+
+            // Act
+            var command = mapper.toListCommand(dto);
+
+            // Assert
+            assertEquals(PaginationMode.OFFSET, command.pagination());
+            assertNull(command.after());
+            assertEquals(TotalMode.EXACT, command.total());
+        }
+
+        @Test
+        @DisplayName("Should keep requested total mode")
+        void shouldKeepRequestedTotalMode() {
+            // Arrange
+            var dto = new BillRequestDTO.Search(
+                    LocalDate.now(),
+                    LocalDate.now().plusMonths(1),
+                    "Test",
+                    0,
+                    10,
+                    null,
+                    null,
+                    TotalMode.OMITTED
+            );
+
+            // Act
+            var command = mapper.toListCommand(dto);
+
+            // Assert
+            assertEquals(TotalMode.OMITTED, command.total());
+        }
+
+        @Test
+        @DisplayName("Should decode keyset cursor")
+        void shouldDecodeKeysetCursor() {
+            // Arrange
+            var cursor = BillCursor.of(LocalDate.of(2024, 5, 10), 42L);
+            var dto = new BillRequestDTO.Search(
+                    LocalDate.now(),
+                    LocalDate.now().plusMonths(1),
+                    "Test",
+                    0,
+                    10,
+                    PaginationMode.KEYSET,
+                    cursor.toToken(),
+                    null
+            );
+
+            // Act
+            var command = mapper.toListCommand(dto);
+
+            // Assert
+            assertEquals(PaginationMode.KEYSET, command.pagination());
+            assertEquals(cursor, command.after());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            // Arrange
+            var dto = new BillRequestDTO.Search(
+                    LocalDate.now(),
+                    LocalDate.now().plusMonths(1),
+                    "Test",
+                    0,
+                    10,
+                    PaginationMode.KEYSET,
+                    "not-a-cursor",
+                    null
+            );
+
+            // Act & Assert
+            assertThrows(InvalidBillDataException.class, () -> mapper.toListCommand(dto));
+        }
+
         @Test
         @DisplayName("Should handle null description")
         void shouldHandleNullDescription() {
@@ -206,7 +303,10 @@ class BillRequestMapperTest extends BaseUnitTest {
                     LocalDate.now().plusMonths(1),
                     null,
                     0,
-                    10
+                    10,
+                    null,
+                    null,
+                    null
             );
 
             // Act
@@ -226,7 +326,10 @@ class BillRequestMapperTest extends BaseUnitTest {
                     LocalDate.now().plusMonths(1),
                     "Test",
                     page,
-                    size
+                    size,
+                    PaginationMode.OFFSET,
+                    null,
+                    null
             );
 
             // Act
@@ -246,6 +349,36 @@ class BillRequestMapperTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("toSearchCommand")
+    class ToSearchCommand {
+        @Test
+        @DisplayName("Should map text search DTO to command")
+        void shouldMapTextSearchDtoToCommand() {
+            // Arrange
+            var cursor = SearchCursor.of(0.5f, 42L);
+            var dto = new BillRequestDTO.TextSearch("internet janeiro", 20, cursor.toToken());
+
+            // Act
+            var command = mapper.toSearchCommand(dto);
+
+            // Assert
+            assertEquals("internet janeiro", command.query());
+            assertEquals(20, command.size());
+            assertEquals(cursor, command.after());
+        }
+
+        @Test
+        @DisplayName("Should map text search without cursor")
+        void shouldMapTextSearchWithoutCursor() {
+            // Act
+            var command = mapper.toSearchCommand(new BillRequestDTO.TextSearch("internet", 10, null));
+
+            // Assert
+            assertNull(command.after());
+        }
+    }
+
     @Nested
     @DisplayName("toCalculateTotalCommand")
     class ToCalculateTotalCommand {
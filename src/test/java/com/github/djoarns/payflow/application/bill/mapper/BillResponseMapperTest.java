@@ -1,8 +1,11 @@
 package com.github.djoarns.payflow.application.bill.mapper;
 
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.application.bill.result.BillImportResult;
 import com.github.djoarns.payflow.application.bill.result.BillResult;
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
+import com.github.djoarns.payflow.domain.bill.BillSearchHit;
 import com.github.djoarns.payflow.domain.bill.valueobject.*;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +18,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -119,6 +124,55 @@ class BillResponseMapperTest extends BaseUnitTest {
             assertEquals(0, dto.totalElements());
             assertFalse(dto.hasNext());
             assertFalse(dto.hasPrevious());
+            assertNull(dto.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should map next cursor to opaque token")
+        void shouldMapNextCursorToOpaqueToken() {
+            // Arrange
+            var cursor = BillCursor.of(LocalDate.of(2024, 1, 31), 7L);
+            var result = new BillResult.List(List.of(createTestBill()), 50, 0, 1, true, cursor, TotalMode.EXACT);
+
+            // Act
+            var dto = mapper.toPageDTO(result);
+
+            // Assert
+            assertTrue(dto.hasNext());
+            assertEquals(cursor.toToken(), dto.nextCursor());
+            assertEquals("EXACT", dto.totalMode());
+        }
+
+        @Test
+        @DisplayName("Should omit totals when total mode is omitted")
+        void shouldOmitTotalsWhenTotalModeIsOmitted() {
+            // Arrange
+            var result = new BillResult.List(List.of(createTestBill()), 0, 3, 1, true, null, TotalMode.OMITTED);
+
+            // Act
+            var dto = mapper.toPageDTO(result);
+
+            // Assert
+            assertNull(dto.totalElements());
+            assertNull(dto.totalPages());
+            assertEquals("OMITTED", dto.totalMode());
+            assertTrue(dto.hasNext());
+            assertTrue(dto.hasPrevious());
+        }
+
+        @Test
+        @DisplayName("Should keep estimated totals")
+        void shouldKeepEstimatedTotals() {
+            // Arrange
+            var result = new BillResult.List(List.of(createTestBill()), 1200, 0, 10, true, null, TotalMode.ESTIMATED);
+
+            // Act
+            var dto = mapper.toPageDTO(result);
+
+            // Assert
+            assertEquals(1200L, dto.totalElements());
+            assertEquals(120, dto.totalPages());
+            assertEquals("ESTIMATED", dto.totalMode());
         }
 
         @Test
@@ -215,6 +269,48 @@ class BillResponseMapperTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("toSearchPageDTO")
+    class ToSearchPageDTO {
+        @Test
+        @DisplayName("Should map search hits with rank and cursor")
+        void shouldMapSearchHitsWithRankAndCursor() {
+            // Arrange
+            var cursor = SearchCursor.of(0.25f, 9L);
+            var result = new BillResult.SearchPage(
+                    List.of(new BillSearchHit(createTestBill(), 0.75f)),
+                    1,
+                    true,
+                    cursor
+            );
+
+            // Act
+            var dto = mapper.toSearchPageDTO(result);
+
+            // Assert
+            assertEquals(1, dto.content().size());
+            assertEquals("Test Bill", dto.content().get(0).bill().description());
+            assertEquals(0.75f, dto.content().get(0).rank());
+            assertTrue(dto.hasNext());
+            assertEquals(cursor.toToken(), dto.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should map empty search page")
+        void shouldMapEmptySearchPage() {
+            // Arrange
+            var result = new BillResult.SearchPage(List.of(), 10, false, null);
+
+            // Act
+            var dto = mapper.toSearchPageDTO(result);
+
+            // Assert
+            assertTrue(dto.content().isEmpty());
+            assertFalse(dto.hasNext());
+            assertNull(dto.nextCursor());
+        }
+    }
+
     @Nested
     @DisplayName("toTotalPaidDTO")
     class ToTotalPaidDTO {
@@ -222,7 +318,7 @@ class BillResponseMapperTest extends BaseUnitTest {
         @DisplayName("Should map zero total paid to DTO")
         void shouldMapZeroTotalPaidToDto() {
             // Arrange
-            var result = new BillResult.TotalPaid(Amount.of(BigDecimal.ONE));
+            var result = new BillResult.TotalPaid(Amount.of(BigDecimal.ONE), 3);
             var startDate = LocalDate.now().minusMonths(1);
             var endDate = LocalDate.now();
 
@@ -231,6 +327,7 @@ class BillResponseMapperTest extends BaseUnitTest {
 
             // Assert
             assertEquals(BigDecimal.ONE, dto.totalAmount());
+            assertEquals(3, dto.billCount());
             assertEquals(startDate, dto.startDate());
             assertEquals(endDate, dto.endDate());
         }
@@ -240,7 +337,7 @@ class BillResponseMapperTest extends BaseUnitTest {
         @DisplayName("Should map different total paid values to DTO")
         void shouldMapDifferentTotalPaidValuesToDto(BigDecimal amount) {
             // Arrange
-            var result = new BillResult.TotalPaid(Amount.of(amount));
+            var result = new BillResult.TotalPaid(Amount.of(amount), 1);
             var startDate = LocalDate.now().minusMonths(1);
             var endDate = LocalDate.now();
 
@@ -256,7 +353,7 @@ class BillResponseMapperTest extends BaseUnitTest {
         void shouldHandleSameStartAndEndDate() {
             // Arrange
             var amount = new BigDecimal("100.00");
-            var result = new BillResult.TotalPaid(Amount.of(amount));
+            var result = new BillResult.TotalPaid(Amount.of(amount), 1);
             var date = LocalDate.now();
 
             // Act
@@ -273,7 +370,7 @@ class BillResponseMapperTest extends BaseUnitTest {
         void shouldHandleYearLongPeriod() {
             // Arrange
             var amount = new BigDecimal("1000.00");
-            var result = new BillResult.TotalPaid(Amount.of(amount));
+            var result = new BillResult.TotalPaid(Amount.of(amount), 1);
             var startDate = LocalDate.now().withDayOfYear(1);
             var endDate = LocalDate.now().withDayOfYear(365);
 
@@ -296,6 +393,34 @@ class BillResponseMapperTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("toImportJobDTO")
+    class ToImportJobDTO {
+        @Test
+        @DisplayName("Should map job progress with throughput and ETA")
+        void shouldMapJobProgress() {
+            // Arrange
+            var start = LocalDateTime.of(2024, 12, 1, 10, 0);
+            var job = BillImportJob.reconstitute(
+                    UUID.randomUUID(), "bills.csv", "/tmp/a.csv", "COPY", null, ImportJobStatus.RUNNING,
+                    1000, 250, 500, 490, 10, 0, 1, null,
+                    start, start, start.plusSeconds(10), null
+            );
+
+            // Act
+            var dto = mapper.toImportJobDTO(job, start.plusSeconds(10));
+
+            // Assert
+            assertEquals(job.getId(), dto.jobId());
+            assertEquals("RUNNING", dto.status());
+            assertEquals("COPY", dto.mode());
+            assertEquals(500, dto.rowsProcessed());
+            assertEquals(10, dto.rowsRejected());
+            assertEquals(50.0, dto.rowsPerSecond());
+            assertEquals(30L, dto.etaSeconds());
+        }
+    }
+
     @Nested
     @DisplayName("toImportDTO")
     class ToImportDTO {
@@ -303,7 +428,7 @@ class BillResponseMapperTest extends BaseUnitTest {
         @DisplayName("Should map successful import result to DTO")
         void shouldMapSuccessfulImportResultToDto() {
             // Arrange
-            var result = new BillImportResult(10, 10, 0, "Import completed successfully");
+            var result = new BillImportResult(10, 10, 0, 2, "Import completed successfully");
 
             // Act
             var dto = mapper.toImportDTO(result);
@@ -312,6 +437,7 @@ class BillResponseMapperTest extends BaseUnitTest {
             assertEquals(10, dto.totalProcessed());
             assertEquals(10, dto.successCount());
             assertEquals(0, dto.errorCount());
+            assertEquals(2, dto.chunksCommitted());
             assertEquals("Import completed successfully", dto.message());
         }
 
@@ -28,6 +28,17 @@ class BillImportResultTest extends BaseUnitTest {
         assertEquals(message, result.message());
     }
 
+    @Test
+    @DisplayName("Should default committed chunks to zero")
+    void shouldDefaultCommittedChunksToZero() {
+        // Act
+        var result = new BillImportResult(3, 3, 0, "Done");
+
+        // Assert
+        assertEquals(0, result.chunksCommitted());
+        assertEquals(new BillImportResult(3, 3, 0, 0, "Done"), result);
+    }
+
     @Test
     @DisplayName("Should create result with zero values")
     void shouldCreateResultWithZeroValues() {
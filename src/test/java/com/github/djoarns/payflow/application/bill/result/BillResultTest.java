@@ -162,17 +162,18 @@ class BillResultTest extends BaseUnitTest {
             Amount amount = Amount.of(new BigDecimal("100.00"));
 
             // Act
-            var result = new BillResult.TotalPaid(amount);
+            var result = new BillResult.TotalPaid(amount, 1);
 
             // Assert
             assertEquals(amount, result.totalPaid());
+            assertEquals(1, result.billCount());
         }
 
         @Test
         @DisplayName("Should allow null amount")
         void shouldAllowNullAmount() {
             // Act
-            var result = new BillResult.TotalPaid(null);
+            var result = new BillResult.TotalPaid(null, 0);
 
             // Assert
             assertNull(result.totalPaid());
@@ -186,9 +187,9 @@ class BillResultTest extends BaseUnitTest {
             var amount2 = Amount.of(new BigDecimal("100.00"));
             var amount3 = Amount.of(new BigDecimal("200.00"));
 
-            var result1 = new BillResult.TotalPaid(amount1);
-            var result2 = new BillResult.TotalPaid(amount2);
-            var result3 = new BillResult.TotalPaid(amount3);
+            var result1 = new BillResult.TotalPaid(amount1, 1);
+            var result2 = new BillResult.TotalPaid(amount2, 1);
+            var result3 = new BillResult.TotalPaid(amount3, 1);
 
             // Assert
             assertEquals(result1, result2);
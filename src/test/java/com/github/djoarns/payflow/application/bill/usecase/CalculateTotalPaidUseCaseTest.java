@@ -2,12 +2,9 @@ package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
 import com.github.djoarns.payflow.application.bill.usecase.CalculateTotalPaidUseCase;
-import com.github.djoarns.payflow.domain.bill.Bill;
-import com.github.djoarns.payflow.domain.bill.BillRepository;
-import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
-import com.github.djoarns.payflow.domain.bill.valueobject.Description;
-import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
-import com.github.djoarns.payflow.domain.bill.valueobject.PaymentDate;
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,22 +13,26 @@ import org.mockito.Mock;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CalculateTotalPaidUseCaseTest extends BaseUnitTest {
 
     @Mock
-    private BillRepository billRepository;
+    private BillDailyTotalRepository billDailyTotalRepository;
+
+    @Mock
+    private PaidTotalsIndex paidTotalsIndex;
 
     private CalculateTotalPaidUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new CalculateTotalPaidUseCase(billRepository);
+        useCase = new CalculateTotalPaidUseCase(billDailyTotalRepository, paidTotalsIndex);
     }
 
     @Test
@@ -40,27 +41,24 @@ class CalculateTotalPaidUseCaseTest extends BaseUnitTest {
         // Arrange
         var startDate = LocalDate.now().minusMonths(1);
         var endDate = LocalDate.now();
-        var paymentDate = LocalDate.now().minusDays(1);
-
-        var bill1 = createPaidBill("Bill 1", new BigDecimal("100.00"), paymentDate);
-        var bill2 = createPaidBill("Bill 2", new BigDecimal("200.00"), paymentDate);
 
-        when(billRepository.findByPaymentDateBetween(any(), any()))
-                .thenReturn(List.of(bill1, bill2));
+        when(billDailyTotalRepository.sumByPaymentDateBetween(startDate, endDate))
+                .thenReturn(PaidTotal.of(new BigDecimal("300.00"), 2));
 
         // Act
         var result = useCase.execute(new BillCommand.CalculateTotalPaid(startDate, endDate));
 
         // Assert
         assertEquals(new BigDecimal("300.00"), result.totalPaid().getValue());
+        assertEquals(2, result.billCount());
     }
 
     @Test
     @DisplayName("Should return zero when no paid bills found")
     void shouldReturnZeroWhenNoPaidBillsFound() {
         // Arrange
-        when(billRepository.findByPaymentDateBetween(any(), any()))
-                .thenReturn(List.of());
+        when(billDailyTotalRepository.sumByPaymentDateBetween(any(), any()))
+                .thenReturn(PaidTotal.empty());
 
         // Act
         var result = useCase.execute(new BillCommand.CalculateTotalPaid(
@@ -70,15 +68,25 @@ class CalculateTotalPaidUseCaseTest extends BaseUnitTest {
 
         // Assert
         assertEquals(BigDecimal.ZERO, result.totalPaid().getValue());
+        assertEquals(0, result.billCount());
     }
 
-    private Bill createPaidBill(String description, BigDecimal amount, LocalDate paymentDate) {
-        var bill = Bill.create(
-                DueDate.of(LocalDate.now().plusDays(7)),
-                Amount.of(amount),
-                Description.of(description)
-        );
-        bill.pay(PaymentDate.of(paymentDate));
-        return bill;
+    @Test
+    @DisplayName("Should answer from in-memory index when it is ready")
+    void shouldAnswerFromInMemoryIndexWhenItIsReady() {
+        // Arrange
+        var startDate = LocalDate.now().minusYears(2);
+        var endDate = LocalDate.now();
+
+        when(paidTotalsIndex.sum(startDate, endDate))
+                .thenReturn(Optional.of(PaidTotal.of(new BigDecimal("42.00"), 3)));
+
+        // Act
+        var result = useCase.execute(new BillCommand.CalculateTotalPaid(startDate, endDate));
+
+        // Assert
+        assertEquals(new BigDecimal("42.00"), result.totalPaid().getValue());
+        assertEquals(3, result.billCount());
+        verifyNoInteractions(billDailyTotalRepository);
     }
-}
\ No newline at end of file
+}
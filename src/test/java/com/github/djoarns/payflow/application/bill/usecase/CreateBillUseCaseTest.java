@@ -77,7 +77,7 @@ class CreateBillUseCaseTest extends BaseUnitTest {
             // Arrange
             var command = new BillCommand.Create(
                     LocalDate.now().plusYears(10),
-                    new BigDecimal("999999999.99"),
+                    new BigDecimal("99999999.99"),
                     "A".repeat(255)
             );
 
@@ -145,7 +145,8 @@ class CreateBillUseCaseTest extends BaseUnitTest {
             return Stream.of(
                     Arguments.of(BigDecimal.ZERO, "Amount must be greater than zero"),
                     Arguments.of(new BigDecimal("-1"), "Amount must be greater than zero"),
-                    Arguments.of(new BigDecimal("1000000000.00"), "Amount cannot be greater than 999999999.99")
+                    Arguments.of(new BigDecimal("100000000.00"), "Amount cannot be greater than 99999999.99"),
+                    Arguments.of(new BigDecimal("99999999.995"), "Amount cannot be greater than 99999999.99")
             );
         }
     }
@@ -0,0 +1,156 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonExporter;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonReader;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CreateBillsBatchUseCaseTest extends BaseUnitTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private BillRepository billRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CreateBillsBatchUseCase useCase;
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateBillsBatchUseCase(
+                new CreateBillUseCase(billRepository),
+                billRepository,
+                new BillNdjsonReader(objectMapper),
+                new BillNdjsonExporter(objectMapper),
+                new TransactionTemplate(transactionManager),
+                2
+        );
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<Bill>>getArgument(0)
+                .stream()
+                .map(bill -> Bill.reconstitute(
+                        BillId.of(ids.incrementAndGet()),
+                        bill.getDueDate(),
+                        bill.getPaymentDate(),
+                        bill.getAmount(),
+                        bill.getDescription(),
+                        bill.getStatus()
+                ))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should save chunks in batches and answer every line in order")
+    void shouldAnswerEveryLineInOrder() throws IOException {
+        // Arrange
+        var dueDate = LocalDate.now().plusDays(1);
+        var content = String.join("\n",
+                row(dueDate, "10.00", "Water"),
+                row(dueDate, "-1", "Refund"),
+                row(dueDate, "30.00", "Gas"),
+                row(dueDate, "40.00", "Power"),
+                "{\"amount\":50}"
+        );
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var result = useCase.execute(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Assert
+        assertEquals(3, result.created());
+        assertEquals(2, result.rejected());
+        assertEquals(List.of(
+                "{\"index\":0,\"status\":201,\"id\":1}",
+                "{\"index\":1,\"status\":400,\"error\":\"Amount must be greater than zero\"}",
+                "{\"index\":2,\"status\":201,\"id\":2}",
+                "{\"index\":3,\"status\":201,\"id\":3}",
+                "{\"index\":4,\"status\":400,\"error\":\"Due date cannot be null\"}"
+        ), output.toString(StandardCharsets.UTF_8).lines().toList());
+        verify(billRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should report a failed chunk and keep going")
+    void shouldReportFailedChunkAndKeepGoing() throws IOException {
+        // Arrange
+        var dueDate = LocalDate.now().plusDays(1);
+        doThrow(new IllegalStateException("connection lost"))
+                .doAnswer(invocation -> List.of(Bill.reconstitute(
+                        BillId.of(9L), null, null, null, null, null
+                )))
+                .when(billRepository).saveAll(anyList());
+        var content = String.join("\n",
+                row(dueDate, "10.00", "Water"),
+                row(dueDate, "20.00", "Gas"),
+                row(dueDate, "30.00", "Power")
+        );
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var result = useCase.execute(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Assert
+        assertEquals(1, result.created());
+        assertEquals(2, result.failed());
+        var lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals("{\"index\":0,\"status\":500,\"error\":\"Error saving bill: connection lost\"}", lines.get(0));
+        assertEquals("{\"index\":2,\"status\":201,\"id\":9}", lines.get(2));
+        verify(transactionManager).rollback(any(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an amount the column cannot hold without failing its chunk")
+    void shouldRejectAmountTooLargeForColumn() throws IOException {
+        // Arrange
+        var dueDate = LocalDate.now().plusDays(1);
+        var content = String.join("\n",
+                row(dueDate, "10.00", "Water"),
+                row(dueDate, "123456789.00", "Mortgage")
+        );
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var result = useCase.execute(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Assert
+        assertEquals(1, result.created());
+        assertEquals(1, result.rejected());
+        assertEquals(0, result.failed());
+        assertEquals(List.of(
+                "{\"index\":0,\"status\":201,\"id\":1}",
+                "{\"index\":1,\"status\":400,\"error\":\"Amount cannot be greater than 99999999.99\"}"
+        ), output.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    private String row(LocalDate dueDate, String amount, String description) {
+        return "{\"dueDate\":\"" + dueDate + "\",\"amount\":" + amount + ",\"description\":\"" + description + "\"}";
+    }
+}
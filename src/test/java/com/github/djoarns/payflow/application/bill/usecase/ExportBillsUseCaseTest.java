@@ -0,0 +1,98 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.command.ExportFormat;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVExporter;
+import com.github.djoarns.payflow.infrastructure.json.BillNdjsonExporter;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExportBillsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillRepository billRepository;
+    @Mock
+    private BillCSVExporter csvExporter;
+    @Mock
+    private BillNdjsonExporter ndjsonExporter;
+
+    private ExportBillsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportBillsUseCase(billRepository, csvExporter, ndjsonExporter);
+    }
+
+    @Test
+    @DisplayName("Should stream bills to CSV exporter and close the stream")
+    void shouldStreamBillsToCsvExporterAndCloseTheStream() throws IOException {
+        // Arrange
+        var startDate = LocalDate.of(2024, 1, 1);
+        var endDate = LocalDate.of(2024, 3, 31);
+        var closed = new AtomicBoolean();
+        Stream<Bill> bills = Stream.<Bill>empty().onClose(() -> closed.set(true));
+        var output = new ByteArrayOutputStream();
+
+        when(billRepository.streamByDueDateBetween(startDate, endDate)).thenReturn(bills);
+        when(csvExporter.export(bills, output)).thenReturn(42L);
+
+        // Act
+        var rows = useCase.execute(new BillCommand.Export(startDate, endDate, ExportFormat.CSV), output);
+
+        // Assert
+        assertEquals(42L, rows);
+        assertTrue(closed.get());
+        verify(ndjsonExporter, never()).export(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should use NDJSON exporter when requested")
+    void shouldUseNdjsonExporterWhenRequested() throws IOException {
+        // Arrange
+        var date = LocalDate.of(2024, 1, 1);
+        Stream<Bill> bills = Stream.empty();
+        var output = new ByteArrayOutputStream();
+
+        when(billRepository.streamByDueDateBetween(date, date)).thenReturn(bills);
+        when(ndjsonExporter.export(bills, output)).thenReturn(0L);
+
+        // Act
+        useCase.execute(new BillCommand.Export(date, date, ExportFormat.NDJSON), output);
+
+        // Assert
+        verify(ndjsonExporter).export(bills, output);
+        verify(csvExporter, never()).export(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject inverted date range")
+    void shouldRejectInvertedDateRange() {
+        // Arrange
+        var command = new BillCommand.Export(
+                LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 1),
+                ExportFormat.CSV
+        );
+
+        // Act & Assert
+        assertThrows(InvalidBillDataException.class,
+                () -> useCase.execute(command, new ByteArrayOutputStream()));
+        verifyNoInteractions(billRepository);
+    }
+}
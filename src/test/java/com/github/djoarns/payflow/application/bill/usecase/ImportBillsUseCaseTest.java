@@ -0,0 +1,225 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.ImportBillsCommand;
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillBulkLoadRepository;
+import com.github.djoarns.payflow.domain.bill.BillFingerprintRepository;
+import com.github.djoarns.payflow.domain.bill.BillImportFileRepository;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillFingerprint;
+import com.github.djoarns.payflow.domain.bill.valueobject.Description;
+import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVImporter;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImportBillsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillRepository billRepository;
+    @Mock
+    private BillBulkLoadRepository billBulkLoadRepository;
+    @Mock
+    private BillFingerprintRepository fingerprintRepository;
+    @Mock
+    private BillImportFileRepository billImportFileRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportBillsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportBillsUseCase(
+                new BillChunkWriter(billRepository, billBulkLoadRepository, fingerprintRepository),
+                billImportFileRepository,
+                new BillCSVImporter(),
+                new TransactionTemplate(transactionManager),
+                2,
+                10
+        );
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(fingerprintRepository.claim(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.getArgument(0)));
+        lenient().when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should commit each chunk in its own transaction")
+    void shouldCommitEachChunkInItsOwnTransaction() {
+        // Arrange
+        var command = command("""
+                dueDate,amount,description
+                2024-12-01,10.00,Bill 1
+                2024-12-02,20.00,Bill 2
+                2024-12-03,30.00,Bill 3
+                2024-12-04,-1.00,Invalid
+                2024-12-05,50.00,Bill 5
+                """);
+
+        // Act
+        var result = useCase.execute(command);
+
+        // Assert
+        assertEquals(5, result.totalProcessed());
+        assertEquals(4, result.successCount());
+        assertEquals(1, result.errorCount());
+        assertEquals(2, result.chunksCommitted());
+        assertEquals("Import completed successfully", result.message());
+        verify(billRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+        verify(billImportFileRepository).record(anyString(), eq("bills.csv"), any());
+    }
+
+    @Test
+    @DisplayName("Should bulk load chunks when COPY mode is requested")
+    void shouldBulkLoadChunksWhenCopyModeIsRequested() {
+        // Arrange
+        when(billBulkLoadRepository.load(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        var command = new ImportBillsCommand(
+                new ByteArrayInputStream("""
+                        dueDate,amount,description
+                        2024-12-01,10.00,Bill 1
+                        2024-12-02,20.00,Bill 2
+                        2024-12-03,30.00,Bill 3
+                        """.getBytes(StandardCharsets.UTF_8)),
+                "bills.csv",
+                ImportMode.COPY
+        );
+
+        // Act
+        var result = useCase.execute(command);
+
+        // Assert
+        assertEquals(3, result.successCount());
+        assertEquals(2, result.chunksCommitted());
+        verify(billBulkLoadRepository, times(2)).load(anyList());
+        verify(billRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report no bills when file has no valid rows")
+    void shouldReportNoBillsWhenFileHasNoValidRows() {
+        // Act
+        var result = useCase.execute(command("dueDate,amount,description\n"));
+
+        // Assert
+        assertEquals(0, result.successCount());
+        assertEquals("No bills found in CSV file", result.message());
+        verifyNoInteractions(billRepository);
+    }
+
+    @Test
+    @DisplayName("Should report committed progress when a later chunk fails")
+    void shouldReportCommittedProgressWhenALaterChunkFails() {
+        // Arrange
+        when(billRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new IllegalStateException("connection lost"));
+        var command = command("""
+                dueDate,amount,description
+                2024-12-01,10.00,Bill 1
+                2024-12-02,20.00,Bill 2
+                2024-12-03,-1.00,Invalid
+                2024-12-04,40.00,Bill 4
+                2024-12-05,50.00,Bill 5
+                """);
+
+        // Act
+        var result = useCase.execute(command);
+
+        // Assert
+        assertEquals(5, result.totalProcessed());
+        assertEquals(2, result.successCount());
+        assertEquals(3, result.errorCount());
+        assertEquals(1, result.chunksCommitted());
+        assertEquals(1, result.rejections().size());
+        assertEquals(4, result.rejections().get(0).line());
+        assertEquals("Error importing bills: connection lost", result.message());
+        verify(transactionManager).rollback(any(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should skip a file that was already imported")
+    void shouldSkipFileThatWasAlreadyImported() {
+        // Arrange
+        when(billImportFileRepository.exists("a".repeat(64))).thenReturn(true);
+        var command = new ImportBillsCommand(
+                new ByteArrayInputStream("dueDate,amount,description\n2024-12-01,10.00,Bill 1\n".getBytes(StandardCharsets.UTF_8)),
+                "bills.csv",
+                ImportMode.JPA,
+                "a".repeat(64)
+        );
+
+        // Act
+        var result = useCase.execute(command);
+
+        // Assert
+        assertEquals(0, result.totalProcessed());
+        assertEquals("File already imported", result.message());
+        verifyNoInteractions(billRepository, fingerprintRepository, transactionManager);
+        verify(billImportFileRepository, never()).record(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip rows repeated in the file or claimed by an earlier import")
+    void shouldSkipDuplicateRows() {
+        // Arrange
+        var alreadyImported = Bill.create(
+                DueDate.of(LocalDate.of(2024, 12, 2)), Amount.of(new BigDecimal("20.00")), Description.of("Bill 2")
+        ).fingerprint();
+        when(fingerprintRepository.claim(anyCollection())).thenAnswer(invocation -> {
+            Set<BillFingerprint> fresh = new HashSet<>(invocation.getArgument(0));
+            fresh.remove(alreadyImported);
+            return fresh;
+        });
+        var command = command("""
+                dueDate,amount,description
+                2024-12-01,10.00,Bill 1
+                2024-12-01,10.0,bill  1
+                2024-12-02,20.00,Bill 2
+                """);
+
+        // Act
+        var result = useCase.execute(command);
+
+        // Assert
+        assertEquals(3, result.totalProcessed());
+        assertEquals(1, result.successCount());
+        assertEquals(2, result.duplicateCount());
+        assertEquals(0, result.errorCount());
+        verify(billRepository).saveAll(argThat(bills -> bills.size() == 1));
+        verify(billImportFileRepository).record(argThat(sha -> sha.length() == 64), eq("bills.csv"), any());
+    }
+
+    private ImportBillsCommand command(String content) {
+        return new ImportBillsCommand(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                "bills.csv"
+        );
+    }
+}
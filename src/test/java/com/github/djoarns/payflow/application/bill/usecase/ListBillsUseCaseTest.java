@@ -1,10 +1,12 @@
 package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
-import com.github.djoarns.payflow.application.bill.usecase.ListBillsUseCase;
+import com.github.djoarns.payflow.application.bill.command.PaginationMode;
+import com.github.djoarns.payflow.application.bill.command.TotalMode;
 import com.github.djoarns.payflow.domain.bill.Bill;
 import com.github.djoarns.payflow.domain.bill.BillRepository;
 import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.infrastructure.cache.BillCountCache;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +14,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ListBillsUseCaseTest extends BaseUnitTest {
@@ -28,7 +34,7 @@ class ListBillsUseCaseTest extends BaseUnitTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new ListBillsUseCase(billRepository);
+        useCase = new ListBillsUseCase(billRepository, new BillCountCache(Duration.ofMinutes(1), 100));
     }
 
     @Test
@@ -43,14 +49,23 @@ class ListBillsUseCaseTest extends BaseUnitTest {
 
         var bills = List.of(
                 createBill("Bill 1"),
-                createBill("Bill 2")
+                createBill("Bill 2"),
+                createBill("Bill 3"),
+                createBill("Bill 4"),
+                createBill("Bill 5"),
+                createBill("Bill 6"),
+                createBill("Bill 7"),
+                createBill("Bill 8"),
+                createBill("Bill 9"),
+                createBill("Bill 10"),
+                createBill("Bill 11")
         );
 
         when(billRepository.findByDueDateBetweenAndDescription(
                 any(LocalDate.class),
                 any(LocalDate.class),
                 anyString(),
-                anyInt(),
+                anyLong(),
                 anyInt()
         )).thenReturn(bills);
 
@@ -66,16 +81,21 @@ class ListBillsUseCaseTest extends BaseUnitTest {
                 endDate,
                 description,
                 page,
-                size
+                size,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.EXACT
         ));
 
         // Assert
         assertNotNull(result);
-        assertEquals(bills, result.bills());
+        assertEquals(bills.subList(0, 10), result.bills());
         assertEquals(15, result.totalElements());
         assertEquals(2, result.getTotalPages());
+        assertEquals(TotalMode.EXACT, result.totalMode());
         assertTrue(result.hasNext());
         assertFalse(result.hasPrevious());
+        verify(billRepository).findByDueDateBetweenAndDescription(startDate, endDate, description, 0L, 11);
     }
 
     @Test
@@ -86,23 +106,20 @@ class ListBillsUseCaseTest extends BaseUnitTest {
                 any(LocalDate.class),
                 any(LocalDate.class),
                 anyString(),
-                anyInt(),
+                anyLong(),
                 anyInt()
         )).thenReturn(List.of());
 
-        when(billRepository.countByDueDateBetweenAndDescription(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                anyString()
-        )).thenReturn(0L);
-
         // Act
         var result = useCase.execute(new BillCommand.List(
                 LocalDate.now(),
                 LocalDate.now().plusMonths(1),
                 "Test",
                 0,
-                10
+                10,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.EXACT
         ));
 
         // Assert
@@ -113,6 +130,260 @@ class ListBillsUseCaseTest extends BaseUnitTest {
         assertFalse(result.hasPrevious());
     }
 
+    @Test
+    @DisplayName("Should derive exact total from last page without counting")
+    void shouldDeriveExactTotalFromLastPageWithoutCounting() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+
+        when(billRepository.findByDueDateBetweenAndDescription(startDate, endDate, null, 20L, 11))
+                .thenReturn(List.of(createBill("Bill 21"), createBill("Bill 22")));
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                null,
+                2,
+                10,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.OMITTED
+        ));
+
+        // Assert
+        assertEquals(22, result.totalElements());
+        assertEquals(TotalMode.EXACT, result.totalMode());
+        assertFalse(result.hasNext());
+        assertTrue(result.hasPrevious());
+        verify(billRepository, never()).countByDueDateBetweenAndDescription(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count instead of deriving total from an empty page past the end")
+    void shouldCountWhenPageIsPastTheEnd() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+        when(billRepository.findByDueDateBetweenAndDescription(startDate, endDate, "Test", 500L, 11))
+                .thenReturn(List.of());
+        when(billRepository.countByDueDateBetweenAndDescription(startDate, endDate, "Test"))
+                .thenReturn(3L);
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                "Test",
+                50,
+                10,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.EXACT
+        ));
+
+        // Assert
+        assertTrue(result.bills().isEmpty());
+        assertEquals(3, result.totalElements());
+        assertEquals(TotalMode.EXACT, result.totalMode());
+        verify(billRepository).countByDueDateBetweenAndDescription(startDate, endDate, "Test");
+    }
+
+    @Test
+    @DisplayName("Should skip count when total is omitted")
+    void shouldSkipCountWhenTotalIsOmitted() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+
+        when(billRepository.findByDueDateBetweenAndDescription(startDate, endDate, "Test", 0L, 2))
+                .thenReturn(List.of(createBill("Bill 1"), createBill("Bill 2")));
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                "Test",
+                0,
+                1,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.OMITTED
+        ));
+
+        // Assert
+        assertEquals(1, result.bills().size());
+        assertTrue(result.hasNext());
+        assertEquals(TotalMode.OMITTED, result.totalMode());
+        verify(billRepository, never()).countByDueDateBetweenAndDescription(any(), any(), any());
+        verify(billRepository, never()).estimateCountByDueDateBetweenAndDescription(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should use planner estimate when total is estimated")
+    void shouldUsePlannerEstimateWhenTotalIsEstimated() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+
+        when(billRepository.findByDueDateBetweenAndDescription(startDate, endDate, "Test", 0L, 2))
+                .thenReturn(List.of(createBill("Bill 1"), createBill("Bill 2")));
+        when(billRepository.estimateCountByDueDateBetweenAndDescription(startDate, endDate, "Test"))
+                .thenReturn(5000L);
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                "Test",
+                0,
+                1,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.ESTIMATED
+        ));
+
+        // Assert
+        assertEquals(5000, result.totalElements());
+        assertEquals(TotalMode.ESTIMATED, result.totalMode());
+        verify(billRepository, never()).countByDueDateBetweenAndDescription(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not report estimate below rows already seen")
+    void shouldNotReportEstimateBelowRowsAlreadySeen() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+
+        when(billRepository.findByDueDateBetweenAndDescription(startDate, endDate, "Test", 3L, 2))
+                .thenReturn(List.of(createBill("Bill 4"), createBill("Bill 5")));
+        when(billRepository.estimateCountByDueDateBetweenAndDescription(startDate, endDate, "Test"))
+                .thenReturn(1L);
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                "Test",
+                3,
+                1,
+                PaginationMode.OFFSET,
+                null,
+                TotalMode.ESTIMATED
+        ));
+
+        // Assert
+        assertEquals(5, result.totalElements());
+    }
+
+    @Test
+    @DisplayName("Should reuse cached exact count for the same filter")
+    void shouldReuseCachedExactCountForTheSameFilter() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+
+        when(billRepository.findByDueDateBetweenAndDescription(eq(startDate), eq(endDate), any(), anyLong(), eq(2)))
+                .thenReturn(List.of(createBill("Bill 1"), createBill("Bill 2")));
+        when(billRepository.countByDueDateBetweenAndDescription(startDate, endDate, "Test"))
+                .thenReturn(40L);
+
+        // Act
+        var first = useCase.execute(new BillCommand.List(
+                startDate, endDate, "Test", 0, 1, PaginationMode.OFFSET, null, TotalMode.EXACT
+        ));
+        var second = useCase.execute(new BillCommand.List(
+                startDate, endDate, "test", 1, 1, PaginationMode.OFFSET, null, TotalMode.EXACT
+        ));
+
+        // Assert
+        assertEquals(40, first.totalElements());
+        assertEquals(40, second.totalElements());
+        verify(billRepository, times(1)).countByDueDateBetweenAndDescription(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return next cursor when more keyset rows exist")
+    void shouldReturnNextCursorWhenMoreKeysetRowsExist() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+        var bills = List.of(
+                createPersistedBill(1L, startDate),
+                createPersistedBill(2L, startDate),
+                createPersistedBill(3L, startDate.plusDays(1))
+        );
+
+        when(billRepository.findByDueDateBetweenAndDescriptionAfter(
+                startDate, endDate, "Test", null, 3
+        )).thenReturn(bills);
+        when(billRepository.countByDueDateBetweenAndDescription(startDate, endDate, "Test"))
+                .thenReturn(3L);
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                "Test",
+                0,
+                2,
+                PaginationMode.KEYSET,
+                null,
+                TotalMode.EXACT
+        ));
+
+        // Assert
+        assertEquals(2, result.bills().size());
+        assertEquals(3, result.totalElements());
+        assertTrue(result.hasNext());
+        assertEquals(BillCursor.of(startDate, 2L), result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should continue keyset listing after cursor")
+    void shouldContinueKeysetListingAfterCursor() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusMonths(1);
+        var cursor = BillCursor.of(startDate, 2L);
+
+        when(billRepository.findByDueDateBetweenAndDescriptionAfter(
+                startDate, endDate, null, cursor, 3
+        )).thenReturn(List.of(createPersistedBill(3L, startDate.plusDays(1))));
+
+        // Act
+        var result = useCase.execute(new BillCommand.List(
+                startDate,
+                endDate,
+                null,
+                0,
+                2,
+                PaginationMode.KEYSET,
+                cursor,
+                TotalMode.OMITTED
+        ));
+
+        // Assert
+        assertEquals(1, result.bills().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        assertEquals(TotalMode.OMITTED, result.totalMode());
+        verify(billRepository, never()).findByDueDateBetweenAndDescription(any(), any(), any(), anyLong(), anyInt());
+    }
+
+    private Bill createPersistedBill(Long id, LocalDate dueDate) {
+        return Bill.reconstitute(
+                BillId.of(id),
+                DueDate.of(dueDate),
+                null,
+                Amount.of(new BigDecimal("100.00")),
+                Description.of("Test " + id),
+                Status.PENDING
+        );
+    }
+
     private Bill createBill(String description) {
         return Bill.create(
                 DueDate.of(LocalDate.now().plusDays(7)),
@@ -120,4 +391,4 @@ class ListBillsUseCaseTest extends BaseUnitTest {
                 Description.of(description)
         );
     }
-}
\ No newline at end of file
+}
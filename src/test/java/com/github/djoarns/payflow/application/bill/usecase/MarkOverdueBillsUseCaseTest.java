@@ -0,0 +1,93 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MarkOverdueBillsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillRepository billRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Should sweep in batches until one comes back short")
+    void shouldSweepUntilShortBatch() {
+        // Arrange
+        var useCase = useCase(100);
+        when(billRepository.markOverdue(LocalDate.now(), 100)).thenReturn(100, 100, 7);
+
+        // Act
+        var total = useCase.execute();
+
+        // Assert
+        assertEquals(207, total);
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+        assertEquals(207.0, meterRegistry.get("payflow.bills.overdue.transitioned").counter().count());
+        assertEquals(1, meterRegistry.get("payflow.bills.overdue.sweep").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should stop after the batch limit")
+    void shouldStopAfterBatchLimit() {
+        // Arrange
+        var useCase = useCase(10);
+        when(billRepository.markOverdue(any(), eq(10))).thenReturn(10);
+
+        // Act
+        var total = useCase.execute();
+
+        // Assert
+        assertEquals(30, total);
+        verify(billRepository, times(3)).markOverdue(any(), eq(10));
+    }
+
+    @Test
+    @DisplayName("Should finish quietly when nothing is overdue")
+    void shouldFinishWhenNothingIsOverdue() {
+        // Arrange
+        var useCase = useCase(100);
+        when(billRepository.markOverdue(any(), anyInt())).thenReturn(0);
+
+        // Act
+        var total = useCase.execute();
+
+        // Assert
+        assertEquals(0, total);
+        verify(billRepository, times(1)).markOverdue(any(), anyInt());
+    }
+
+    private MarkOverdueBillsUseCase useCase(int batchSize) {
+        return new MarkOverdueBillsUseCase(
+                billRepository,
+                new TransactionTemplate(transactionManager),
+                meterRegistry,
+                batchSize,
+                3
+        );
+    }
+}
@@ -2,10 +2,12 @@ package com.github.djoarns.payflow.application.bill.usecase;
 
 import com.github.djoarns.payflow.application.bill.command.BillCommand;
 import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
 import com.github.djoarns.payflow.domain.bill.BillRepository;
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillStatusException;
 import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +27,17 @@ class PayBillUseCaseTest extends BaseUnitTest {
     @Mock
     private BillRepository billRepository;
 
+    @Mock
+    private BillDailyTotalRepository billDailyTotalRepository;
+
+    @Mock
+    private PaidTotalsIndex paidTotalsIndex;
+
     private PayBillUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new PayBillUseCase(billRepository);
+        useCase = new PayBillUseCase(billRepository, billDailyTotalRepository, paidTotalsIndex);
     }
 
     @Test
@@ -58,6 +66,8 @@ class PayBillUseCaseTest extends BaseUnitTest {
         assertEquals(Status.PAID, result.bill().getStatus());
         assertEquals(paymentDate, result.bill().getPaymentDate().getValue());
         verify(billRepository).save(result.bill());
+        verify(billDailyTotalRepository).addPayment(paymentDate, result.bill().getAmount());
+        verify(paidTotalsIndex).recordPayment(paymentDate, result.bill().getAmount());
     }
 
     @Test
@@ -72,6 +82,7 @@ class PayBillUseCaseTest extends BaseUnitTest {
         // Act & Assert
         assertThrows(InvalidBillDataException.class, () -> useCase.execute(command));
         verify(billRepository, never()).save(any());
+        verifyNoInteractions(billDailyTotalRepository, paidTotalsIndex);
     }
 
     @Test
@@ -93,6 +104,7 @@ class PayBillUseCaseTest extends BaseUnitTest {
         // Act & Assert
         assertThrows(InvalidBillStatusException.class, () -> useCase.execute(command));
         verify(billRepository, never()).save(any());
+        verifyNoInteractions(billDailyTotalRepository, paidTotalsIndex);
     }
 
     @Test
@@ -113,5 +125,6 @@ class PayBillUseCaseTest extends BaseUnitTest {
         // Act & Assert
         assertThrows(InvalidBillDataException.class, () -> useCase.execute(command));
         verify(billRepository, never()).save(any());
+        verifyNoInteractions(billDailyTotalRepository, paidTotalsIndex);
     }
 }
\ No newline at end of file
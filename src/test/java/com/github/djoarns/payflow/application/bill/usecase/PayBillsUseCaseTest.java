@@ -0,0 +1,114 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.application.bill.result.BillResult;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillBulkPayRepository;
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PayBillsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillBulkPayRepository billBulkPayRepository;
+    @Mock
+    private BillDailyTotalRepository billDailyTotalRepository;
+    @Mock
+    private PaidTotalsIndex paidTotalsIndex;
+
+    private PayBillsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new PayBillsUseCase(billBulkPayRepository, billDailyTotalRepository, paidTotalsIndex);
+    }
+
+    @Test
+    @DisplayName("Should pay eligible bills in one update and explain the rest")
+    void shouldPayEligibleBillsAndExplainTheRest() {
+        // Arrange
+        var paymentDate = LocalDate.now();
+        when(billBulkPayRepository.payAll(any(), eq(PaymentDate.of(paymentDate))))
+                .thenReturn(List.of(paidBill(1L, "10.00", paymentDate), paidBill(3L, "5.50", paymentDate)));
+        when(billBulkPayRepository.findStatuses(Set.of(BillId.of(2L), BillId.of(4L))))
+                .thenReturn(Map.of(BillId.of(2L), Status.PAID));
+
+        // Act
+        var result = useCase.execute(new BillCommand.PayAll(Arrays.asList(1L, 2L, 3L, 4L, 1L, null), paymentDate));
+
+        // Assert
+        assertEquals(2, result.paid().size());
+        assertEquals(List.of(
+                new BillResult.PayAll.Rejection(2L, "Bill cannot be paid in current status: PAID"),
+                new BillResult.PayAll.Rejection(4L, "Bill not found")
+        ), result.rejected());
+        verify(billBulkPayRepository).payAll(argThat(ids -> ids.size() == 4), any());
+        verify(billDailyTotalRepository).addPayments(paymentDate, Amount.of(new BigDecimal("15.50")), 2);
+        verify(paidTotalsIndex).recordPayments(paymentDate, Amount.of(new BigDecimal("15.50")), 2);
+    }
+
+    @Test
+    @DisplayName("Should not touch daily totals when nothing was paid")
+    void shouldNotTouchTotalsWhenNothingWasPaid() {
+        // Arrange
+        when(billBulkPayRepository.payAll(any(), any())).thenReturn(List.of());
+        when(billBulkPayRepository.findStatuses(any())).thenReturn(Map.of());
+
+        // Act
+        var result = useCase.execute(new BillCommand.PayAll(List.of(7L), LocalDate.now()));
+
+        // Assert
+        assertTrue(result.paid().isEmpty());
+        assertEquals(1, result.rejected().size());
+        verifyNoInteractions(billDailyTotalRepository, paidTotalsIndex);
+    }
+
+    @Test
+    @DisplayName("Should reject a future payment date before updating anything")
+    void shouldRejectFuturePaymentDate() {
+        // Arrange
+        var command = new BillCommand.PayAll(List.of(1L), LocalDate.now().plusDays(1));
+
+        // Act & Assert
+        assertThrows(InvalidBillDataException.class, () -> useCase.execute(command));
+        verifyNoInteractions(billBulkPayRepository);
+    }
+
+    @Test
+    @DisplayName("Should require at least one id")
+    void shouldRequireAtLeastOneId() {
+        assertThrows(InvalidBillDataException.class,
+                () -> useCase.execute(new BillCommand.PayAll(List.of(), LocalDate.now())));
+    }
+
+    private Bill paidBill(long id, String amount, LocalDate paymentDate) {
+        return Bill.reconstitute(
+                BillId.of(id),
+                DueDate.of(LocalDate.now()),
+                PaymentDate.of(paymentDate),
+                Amount.of(new BigDecimal(amount)),
+                Description.of("Bill " + id),
+                Status.PAID
+        );
+    }
+}
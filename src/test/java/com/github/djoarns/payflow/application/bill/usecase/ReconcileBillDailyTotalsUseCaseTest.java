@@ -0,0 +1,54 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.infrastructure.index.PaidTotalsIndex;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReconcileBillDailyTotalsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillDailyTotalRepository billDailyTotalRepository;
+
+    @Mock
+    private PaidTotalsIndex paidTotalsIndex;
+
+    private ReconcileBillDailyTotalsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReconcileBillDailyTotalsUseCase(billDailyTotalRepository, paidTotalsIndex);
+    }
+
+    @Test
+    @DisplayName("Should report repaired days")
+    void shouldReportRepairedDays() {
+        // Arrange
+        when(billDailyTotalRepository.reconcile()).thenReturn(5);
+
+        // Act
+        var repaired = useCase.execute();
+
+        // Assert
+        assertEquals(5, repaired);
+        verify(billDailyTotalRepository).reconcile();
+        verify(paidTotalsIndex).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should report zero when rollup is consistent")
+    void shouldReportZeroWhenRollupIsConsistent() {
+        // Arrange
+        when(billDailyTotalRepository.reconcile()).thenReturn(0);
+
+        // Act & Assert
+        assertEquals(0, useCase.execute());
+    }
+}
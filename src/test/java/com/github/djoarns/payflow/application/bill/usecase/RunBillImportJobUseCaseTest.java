@@ -0,0 +1,216 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.ImportMode;
+import com.github.djoarns.payflow.domain.bill.BillImportFileRepository;
+import com.github.djoarns.payflow.domain.bill.BillImportJob;
+import com.github.djoarns.payflow.domain.bill.BillImportJobRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.ImportJobStatus;
+import com.github.djoarns.payflow.infrastructure.cluster.ClusterCoordinator;
+import com.github.djoarns.payflow.infrastructure.cluster.ClusterLease;
+import com.github.djoarns.payflow.infrastructure.csv.BillCSVImporter;
+import com.github.djoarns.payflow.infrastructure.importjob.BillImportSpool;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RunBillImportJobUseCaseTest extends BaseUnitTest {
+    private static final String CSV = """
+            dueDate,amount,description
+            2024-12-01,10.00,Bill 1
+            2024-12-02,20.00,Bill 2
+            2024-12-03,-3.00,Invalid
+            2024-12-04,40.00,Bill 4
+            2024-12-05,50.00,Bill 5
+            """;
+
+    @Mock
+    private BillImportJobRepository jobRepository;
+    @Mock
+    private BillImportFileRepository billImportFileRepository;
+    @Mock
+    private BillChunkWriter chunkWriter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+    @Mock
+    private ClusterLease lease;
+
+    @TempDir
+    Path directory;
+
+    private BillImportSpool spool;
+    private RunBillImportJobUseCase useCase;
+    private final List<Long> savedRowsProcessed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        spool = new BillImportSpool(directory);
+        useCase = new RunBillImportJobUseCase(
+                jobRepository,
+                billImportFileRepository,
+                spool,
+                new BillCSVImporter(),
+                chunkWriter,
+                new TransactionTemplate(transactionManager),
+                clusterCoordinator,
+                2,
+                10,
+                Duration.ofMinutes(10)
+        );
+        lenient().when(clusterCoordinator.tryAcquire(any())).thenReturn(Optional.of(lease));
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(chunkWriter.write(anyList(), any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        lenient().when(jobRepository.save(any())).thenAnswer(invocation -> {
+            BillImportJob job = invocation.getArgument(0);
+            savedRowsProcessed.add(job.getRowsProcessed());
+            return job;
+        });
+    }
+
+    @Test
+    @DisplayName("Should commit progress with each chunk and complete the job")
+    void shouldCommitProgressWithEachChunk() throws IOException {
+        // Arrange
+        var job = runningJob(0, 0, 0);
+        when(jobRepository.claim(eq(job.getId()), any(), any())).thenReturn(true);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // Act
+        useCase.execute(job.getId());
+
+        // Assert
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getRowsProcessed());
+        assertEquals(4, job.getRowsSucceeded());
+        assertEquals(1, job.getRowsRejected());
+        assertEquals(2, job.getChunksCommitted());
+        assertEquals(List.of(2L, 5L, 5L), savedRowsProcessed);
+        verify(transactionManager, times(3)).commit(any());
+        verify(jobRepository).saveRejections(eq(job.getId()), argThat(rejections -> rejections.size() == 1
+                && rejections.get(0).line() == 4 && "amount".equals(rejections.get(0).column())));
+        verify(billImportFileRepository).record(job.getFileSha256(), "bills.csv", job.getFinishedAt());
+        assertFalse(spool.exists(job.getSpoolPath()));
+    }
+
+    @Test
+    @DisplayName("Should count rows the writer skipped as duplicates")
+    void shouldCountDuplicates() throws IOException {
+        // Arrange
+        var job = runningJob(0, 0, 0);
+        when(jobRepository.claim(eq(job.getId()), any(), any())).thenReturn(true);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(chunkWriter.write(anyList(), any())).thenReturn(1);
+
+        // Act
+        useCase.execute(job.getId());
+
+        // Assert
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getRowsSucceeded());
+        assertEquals(2, job.getRowsDuplicated());
+    }
+
+    @Test
+    @DisplayName("Should resume after the rows covered by committed chunks")
+    void shouldResumeAfterCommittedRows() throws IOException {
+        // Arrange
+        var job = runningJob(2, 2, 0);
+        when(jobRepository.claim(eq(job.getId()), any(), any())).thenReturn(true);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // Act
+        useCase.execute(job.getId());
+
+        // Assert
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getRowsProcessed());
+        assertEquals(4, job.getRowsSucceeded());
+        assertEquals(1, job.getRowsRejected());
+        verify(chunkWriter).write(argThat(chunk -> chunk.size() == 2
+                && chunk.get(0).getDescription().getValue().equals("Bill 4")), eq(ImportMode.JPA));
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the chunk cannot be written")
+    void shouldFailJobWhenChunkCannotBeWritten() throws IOException {
+        // Arrange
+        var job = runningJob(0, 0, 0);
+        when(jobRepository.claim(eq(job.getId()), any(), any())).thenReturn(true);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(chunkWriter.write(anyList(), any())).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        useCase.execute(job.getId());
+
+        // Assert
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("Error importing bills: database down", job.getMessage());
+        verify(transactionManager).rollback(any());
+        assertFalse(spool.exists(job.getSpoolPath()));
+    }
+
+    @Test
+    @DisplayName("Should leave a job alone when another worker owns it")
+    void shouldSkipUnclaimedJob() {
+        // Arrange
+        var jobId = UUID.randomUUID();
+        when(jobRepository.claim(eq(jobId), any(), any())).thenReturn(false);
+
+        // Act
+        useCase.execute(jobId);
+
+        // Assert
+        verify(jobRepository, never()).findById(any());
+        verifyNoInteractions(chunkWriter);
+        verify(lease).close();
+    }
+
+    @Test
+    @DisplayName("Should leave a job alone while another worker holds its lease")
+    void shouldSkipJobLeasedElsewhere() {
+        // Arrange
+        var jobId = UUID.randomUUID();
+        when(clusterCoordinator.tryAcquire("bill-import:" + jobId)).thenReturn(Optional.empty());
+
+        // Act
+        useCase.execute(jobId);
+
+        // Assert
+        verifyNoInteractions(jobRepository, chunkWriter);
+    }
+
+    private BillImportJob runningJob(long rowsProcessed, long rowsSucceeded, int chunks) throws IOException {
+        var id = UUID.randomUUID();
+        var spooled = spool.spool(id, new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+        var now = LocalDateTime.now();
+        return BillImportJob.reconstitute(
+                id, "bills.csv", spooled.path().toString(), "JPA", spooled.sha256(), ImportJobStatus.RUNNING,
+                spooled.size(), 0, rowsProcessed, rowsSucceeded, 0, 0, chunks, null,
+                now, now, now, null
+        );
+    }
+}
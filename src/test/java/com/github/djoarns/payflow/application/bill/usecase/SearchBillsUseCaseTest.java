@@ -0,0 +1,122 @@
+package com.github.djoarns.payflow.application.bill.usecase;
+
+import com.github.djoarns.payflow.application.bill.command.BillCommand;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillRepository;
+import com.github.djoarns.payflow.domain.bill.BillSearchHit;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchBillsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private BillRepository billRepository;
+
+    private SearchBillsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchBillsUseCase(billRepository);
+    }
+
+    @Test
+    @DisplayName("Should return ranked hits with next cursor")
+    void shouldReturnRankedHitsWithNextCursor() {
+        // Arrange
+        var hits = List.of(
+                new BillSearchHit(createBill(5L), 0.9f),
+                new BillSearchHit(createBill(3L), 0.6f),
+                new BillSearchHit(createBill(8L), 0.1f)
+        );
+        when(billRepository.searchByDescription("internet", null, 3)).thenReturn(hits);
+
+        // Act
+        var result = useCase.execute(new BillCommand.Search("  internet ", 2, null));
+
+        // Assert
+        assertEquals(hits.subList(0, 2), result.hits());
+        assertTrue(result.hasNext());
+        assertEquals(SearchCursor.of(0.6f, 3L), result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should forward cursor and stop on last page")
+    void shouldForwardCursorAndStopOnLastPage() {
+        // Arrange
+        var cursor = SearchCursor.of(0.6f, 3L);
+        when(billRepository.searchByDescription("internet", cursor, 3))
+                .thenReturn(List.of(new BillSearchHit(createBill(8L), 0.1f)));
+
+        // Act
+        var result = useCase.execute(new BillCommand.Search("internet", 2, cursor));
+
+        // Assert
+        assertEquals(1, result.hits().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    @DisplayName("Should reject blank query")
+    void shouldRejectBlankQuery(String query) {
+        // Act & Assert
+        var exception = assertThrows(
+                InvalidBillDataException.class,
+                () -> useCase.execute(new BillCommand.Search(query, 10, null))
+        );
+        assertEquals("Search query is required", exception.getMessage());
+        verify(billRepository, never()).searchByDescription(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject query longer than description")
+    void shouldRejectQueryLongerThanDescription() {
+        // Act & Assert
+        assertThrows(
+                InvalidBillDataException.class,
+                () -> useCase.execute(new BillCommand.Search("a".repeat(256), 10, null))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101})
+    @DisplayName("Should reject invalid page size")
+    void shouldRejectInvalidPageSize(int size) {
+        // Act & Assert
+        var exception = assertThrows(
+                InvalidBillDataException.class,
+                () -> useCase.execute(new BillCommand.Search("internet", size, null))
+        );
+        assertEquals("Page size must be between 1 and 100", exception.getMessage());
+    }
+
+    private Bill createBill(Long id) {
+        return Bill.reconstitute(
+                BillId.of(id),
+                DueDate.of(LocalDate.now().plusDays(7)),
+                null,
+                Amount.of(new BigDecimal("99.90")),
+                Description.of("Internet Service - Janeiro"),
+                Status.PENDING
+        );
+    }
+}
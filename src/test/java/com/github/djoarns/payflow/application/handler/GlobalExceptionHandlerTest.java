@@ -7,12 +7,14 @@ import com.github.djoarns.payflow.domain.bill.exception.InvalidBillOperationExce
 import com.github.djoarns.payflow.domain.bill.exception.InvalidBillStatusException;
 import com.github.djoarns.payflow.domain.user.exception.InvalidUserDataException;
 import com.github.djoarns.payflow.domain.user.exception.InvalidUserOperationException;
+import com.github.djoarns.payflow.infrastructure.security.PasswordHashingUnavailableException;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.BindingResult;
@@ -21,6 +23,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -156,6 +159,22 @@ class GlobalExceptionHandlerTest extends BaseUnitTest {
             assertEquals("AUTHENTICATION_ERROR", response.getBody().code());
             assertNotNull(response.getBody().timestamp());
         }
+
+        @Test
+        @DisplayName("Should handle PasswordHashingUnavailableException with Retry-After")
+        void shouldHandlePasswordHashingUnavailableException() {
+            // Arrange
+            var exception = new PasswordHashingUnavailableException(Duration.ofSeconds(3));
+
+            // Act
+            var response = handler.handlePasswordHashingUnavailable(exception);
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertNotNull(response.getBody());
+            assertEquals("SERVICE_UNAVAILABLE", response.getBody().code());
+        }
     }
 
     @Nested
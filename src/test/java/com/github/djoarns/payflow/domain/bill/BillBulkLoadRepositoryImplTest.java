@@ -0,0 +1,131 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.Description;
+import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BillBulkLoadRepositoryImplTest extends BaseUnitTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private PGConnection pgConnection;
+    @Mock
+    private CopyManager copyManager;
+
+    private BillBulkLoadRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BillBulkLoadRepositoryImpl(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should copy bills into staging and move them with one insert")
+    void shouldCopyBillsIntoStagingAndMoveThemWithOneInsert() throws Exception {
+        // Arrange
+        mockConnection();
+        var readerCaptor = ArgumentCaptor.forClass(Reader.class);
+        when(copyManager.copyIn(eq(BillBulkLoadRepositoryImpl.COPY_STAGING), readerCaptor.capture())).thenReturn(2L);
+        when(statement.executeUpdate(BillBulkLoadRepositoryImpl.MOVE_STAGED)).thenReturn(2);
+
+        var bills = List.of(
+                createBill("Internet Service - Janeiro", "89.90"),
+                createBill("Energia \"bandeira\", vermelha", "180.00")
+        );
+
+        // Act
+        var loaded = repository.load(bills);
+
+        // Assert
+        assertEquals(2, loaded);
+        var csv = new BufferedReader(readerCaptor.getValue()).lines().collect(Collectors.toList());
+        assertEquals(List.of(
+                "0,2024-01-10,89.90,\"Internet Service - Janeiro\"",
+                "1,2024-01-10,180.00,\"Energia \"\"bandeira\"\", vermelha\""
+        ), csv);
+        var inOrder = inOrder(statement, copyManager);
+        inOrder.verify(statement).execute(BillBulkLoadRepositoryImpl.CREATE_STAGING);
+        inOrder.verify(statement).execute(BillBulkLoadRepositoryImpl.CLEAR_STAGING);
+        inOrder.verify(copyManager).copyIn(eq(BillBulkLoadRepositoryImpl.COPY_STAGING), any(Reader.class));
+        inOrder.verify(statement).executeUpdate(BillBulkLoadRepositoryImpl.MOVE_STAGED);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should allocate ids in pooled blocks")
+    void shouldAllocateIdsInPooledBlocks() {
+        // Assert
+        assertTrue(BillBulkLoadRepositoryImpl.MOVE_STAGED.contains("blocks.lo + staged.rn % 100"));
+        assertTrue(BillBulkLoadRepositoryImpl.MOVE_STAGED.contains("blocks.block = staged.rn / 100"));
+        assertTrue(BillBulkLoadRepositoryImpl.MOVE_STAGED.contains("nextval('bills_id_seq')"));
+    }
+
+    @Test
+    @DisplayName("Should skip database for empty chunk")
+    void shouldSkipDatabaseForEmptyChunk() {
+        // Act
+        var loaded = repository.load(List.of());
+
+        // Assert
+        assertEquals(0, loaded);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should translate SQL failure and release connection")
+    void shouldTranslateSqlFailureAndReleaseConnection() throws Exception {
+        // Arrange
+        mockConnection();
+        when(copyManager.copyIn(anyString(), any(Reader.class))).thenThrow(new SQLException("bad row"));
+
+        // Act & Assert
+        assertThrows(UncategorizedSQLException.class,
+                () -> repository.load(List.of(createBill("Bill", "1.00"))));
+        verify(connection).close();
+    }
+
+    private void mockConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    }
+
+    private Bill createBill(String description, String amount) {
+        return Bill.create(
+                DueDate.of(LocalDate.of(2024, 1, 10)),
+                Amount.of(new BigDecimal(amount)),
+                Description.of(description)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.BillId;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaymentDate;
+import com.github.djoarns.payflow.domain.bill.valueobject.Status;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BillBulkPayRepositoryImplTest extends BaseUnitTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet resultSet;
+    @Mock
+    private Array array;
+
+    private BillBulkPayRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BillBulkPayRepositoryImpl(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should pay bills with one conditional update and map the returned rows")
+    void shouldPayBillsWithOneUpdate() throws Exception {
+        // Arrange
+        var paymentDate = LocalDate.now();
+        mockStatement(BillBulkPayRepositoryImpl.PAY_ALL);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(resultSet.getDate(2)).thenReturn(Date.valueOf(LocalDate.of(2024, 12, 1)));
+        when(resultSet.getBigDecimal(3)).thenReturn(new BigDecimal("10.00"));
+        when(resultSet.getString(4)).thenReturn("Water");
+
+        // Act
+        var paid = repository.payAll(List.of(BillId.of(1L), BillId.of(2L)), PaymentDate.of(paymentDate));
+
+        // Assert
+        assertEquals(1, paid.size());
+        assertEquals(BillId.of(1L), paid.get(0).getId());
+        assertEquals(Status.PAID, paid.get(0).getStatus());
+        assertEquals(paymentDate, paid.get(0).getPaymentDate().getValue());
+        verify(connection).createArrayOf("bigint", new Long[]{1L, 2L});
+        verify(statement).setDate(2, Date.valueOf(paymentDate));
+        verify(statement, times(1)).executeQuery();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should only pay actionable bills, locking them in id order")
+    void shouldOnlyPayActionableBills() {
+        // Assert
+        assertTrue(BillBulkPayRepositoryImpl.PAY_ALL.contains("status IN ('PENDING', 'OVERDUE')"));
+        assertTrue(BillBulkPayRepositoryImpl.PAY_ALL.contains("ORDER BY id"));
+        assertTrue(BillBulkPayRepositoryImpl.PAY_ALL.contains("FOR UPDATE"));
+    }
+
+    @Test
+    @DisplayName("Should find the current status of bills")
+    void shouldFindStatuses() throws Exception {
+        // Arrange
+        mockStatement(BillBulkPayRepositoryImpl.FIND_STATUSES);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(2L);
+        when(resultSet.getString(2)).thenReturn("CANCELLED");
+
+        // Act
+        var statuses = repository.findStatuses(List.of(BillId.of(2L), BillId.of(3L)));
+
+        // Assert
+        assertEquals(Map.of(BillId.of(2L), Status.CANCELLED), statuses);
+    }
+
+    @Test
+    @DisplayName("Should skip database for no ids")
+    void shouldSkipDatabaseForNoIds() {
+        // Act & Assert
+        assertTrue(repository.payAll(List.of(), PaymentDate.of(LocalDate.now())).isEmpty());
+        assertTrue(repository.findStatuses(List.of()).isEmpty());
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should translate SQL failure and release connection")
+    void shouldTranslateSqlFailure() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(BillBulkPayRepositoryImpl.PAY_ALL)).thenThrow(new SQLException("boom"));
+
+        // Act & Assert
+        assertThrows(UncategorizedSQLException.class,
+                () -> repository.payAll(List.of(BillId.of(1L)), PaymentDate.of(LocalDate.now())));
+        verify(connection).close();
+    }
+
+    private void mockStatement(String sql) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(sql)).thenReturn(statement);
+        when(connection.createArrayOf(eq("bigint"), any())).thenReturn(array);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.infrastructure.persistence.entity.BillDailyTotalJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.PaidTotalProjection;
+import com.github.djoarns.payflow.infrastructure.persistence.repository.BillDailyTotalJpaRepository;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BillDailyTotalRepositoryImplTest extends BaseUnitTest {
+
+    @Mock
+    private BillDailyTotalJpaRepository jpaRepository;
+
+    private BillDailyTotalRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BillDailyTotalRepositoryImpl(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should increment the day of the payment")
+    void shouldIncrementTheDayOfThePayment() {
+        // Arrange
+        var paymentDate = LocalDate.now();
+
+        // Act
+        repository.addPayment(paymentDate, Amount.of(new BigDecimal("99.90")));
+
+        // Assert
+        verify(jpaRepository).increment(paymentDate, new BigDecimal("99.90"), 1);
+    }
+
+    @Test
+    @DisplayName("Should add many payments of one day in a single increment")
+    void shouldAddManyPaymentsInSingleIncrement() {
+        // Arrange
+        var paymentDate = LocalDate.now();
+
+        // Act
+        repository.addPayments(paymentDate, Amount.of(new BigDecimal("1500.00")), 30);
+
+        // Assert
+        verify(jpaRepository).increment(paymentDate, new BigDecimal("1500.00"), 30);
+    }
+
+    @Test
+    @DisplayName("Should reject payment without date")
+    void shouldRejectPaymentWithoutDate() {
+        // Act & Assert
+        var amount = Amount.of(BigDecimal.TEN);
+        assertThrows(InvalidBillDataException.class, () -> repository.addPayment(null, amount));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should sum daily totals between dates")
+    void shouldSumDailyTotalsBetweenDates() {
+        // Arrange
+        var startDate = LocalDate.now().minusYears(1);
+        var endDate = LocalDate.now();
+        var projection = mock(PaidTotalProjection.class);
+
+        when(projection.getTotalAmount()).thenReturn(new BigDecimal("1200.00"));
+        when(projection.getBillCount()).thenReturn(12L);
+        when(jpaRepository.sumByPaymentDateBetween(startDate, endDate)).thenReturn(projection);
+
+        // Act
+        var result = repository.sumByPaymentDateBetween(startDate, endDate);
+
+        // Assert
+        assertEquals(new BigDecimal("1200.00"), result.getAmount().getValue());
+        assertEquals(12, result.getBillCount());
+    }
+
+    @Test
+    @DisplayName("Should return zero when no days match")
+    void shouldReturnZeroWhenNoDaysMatch() {
+        // Arrange
+        var projection = mock(PaidTotalProjection.class);
+
+        when(projection.getTotalAmount()).thenReturn(null);
+        when(projection.getBillCount()).thenReturn(null);
+        when(jpaRepository.sumByPaymentDateBetween(any(), any())).thenReturn(projection);
+
+        // Act
+        var result = repository.sumByPaymentDateBetween(LocalDate.now(), LocalDate.now());
+
+        // Assert
+        assertEquals(BigDecimal.ZERO, result.getAmount().getValue());
+        assertEquals(0, result.getBillCount());
+    }
+
+    @Test
+    @DisplayName("Should load every day of the rollup")
+    void shouldLoadEveryDayOfTheRollup() {
+        // Arrange
+        var entity = new BillDailyTotalJpaEntity();
+        entity.setPaymentDate(LocalDate.of(2024, 3, 15));
+        entity.setTotalAmount(new BigDecimal("300.00"));
+        entity.setBillCount(2);
+
+        when(jpaRepository.findAll()).thenReturn(List.of(entity));
+
+        // Act
+        var result = repository.findAll();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(new BigDecimal("300.00"), result.get(LocalDate.of(2024, 3, 15)).getAmount().getValue());
+        assertEquals(2, result.get(LocalDate.of(2024, 3, 15)).getBillCount());
+    }
+
+    @Test
+    @DisplayName("Should lock rollup before repairing drift")
+    void shouldLockRollupBeforeRepairingDrift() {
+        // Arrange
+        when(jpaRepository.repairDriftedDays()).thenReturn(2);
+        when(jpaRepository.deleteOrphanedDays()).thenReturn(1);
+
+        // Act
+        var repaired = repository.reconcile();
+
+        // Assert
+        assertEquals(3, repaired);
+        InOrder inOrder = inOrder(jpaRepository);
+        inOrder.verify(jpaRepository).lockForReconciliation();
+        inOrder.verify(jpaRepository).repairDriftedDays();
+        inOrder.verify(jpaRepository).deleteOrphanedDays();
+    }
+}
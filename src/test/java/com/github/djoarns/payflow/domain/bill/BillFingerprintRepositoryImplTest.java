@@ -0,0 +1,107 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.BillFingerprint;
+import com.github.djoarns.payflow.domain.bill.valueobject.Description;
+import com.github.djoarns.payflow.domain.bill.valueobject.DueDate;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BillFingerprintRepositoryImplTest extends BaseUnitTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet resultSet;
+    @Mock
+    private Array array;
+
+    private BillFingerprintRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BillFingerprintRepositoryImpl(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should return only the fingerprints the insert claimed")
+    void shouldReturnClaimedFingerprints() throws Exception {
+        // Arrange
+        var fresh = fingerprint("Water");
+        var known = fingerprint("Power");
+        mockStatement();
+        when(connection.createArrayOf(eq("text"), any())).thenReturn(array);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn(fresh.toHex());
+
+        // Act
+        var claimed = repository.claim(List.of(fresh, known));
+
+        // Assert
+        assertEquals(Set.of(fresh), claimed);
+        verify(connection).createArrayOf("text", new String[]{fresh.toHex(), known.toHex()});
+        verify(statement).setArray(1, array);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an empty chunk")
+    void shouldSkipEmptyChunk() {
+        // Act
+        var claimed = repository.claim(List.of());
+
+        // Assert
+        assertTrue(claimed.isEmpty());
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should translate SQL errors and release the connection")
+    void shouldTranslateSqlErrors() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(BillFingerprintRepositoryImpl.CLAIM)).thenThrow(new SQLException("boom"));
+
+        // Act & Assert
+        assertThrows(UncategorizedSQLException.class, () -> repository.claim(List.of(fingerprint("Water"))));
+        verify(connection).close();
+    }
+
+    private void mockStatement() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(BillFingerprintRepositoryImpl.CLAIM)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    private BillFingerprint fingerprint(String description) {
+        return BillFingerprint.of(
+                DueDate.of(LocalDate.of(2024, 12, 1)),
+                Amount.of(new BigDecimal("10.00")),
+                Description.of(description)
+        );
+    }
+}
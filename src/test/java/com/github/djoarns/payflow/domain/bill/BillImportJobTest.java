@@ -0,0 +1,118 @@
+package com.github.djoarns.payflow.domain.bill;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillOperationException;
+import com.github.djoarns.payflow.domain.bill.valueobject.ImportJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillImportJobTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 12, 1, 10, 0);
+
+    @Test
+    @DisplayName("Should queue a job with empty progress")
+    void shouldQueueJob() {
+        // Act
+        var job = BillImportJob.queue(UUID.randomUUID(), "bills.csv", "/tmp/a.csv", "JPA", null, 1000, START);
+
+        // Assert
+        assertEquals(ImportJobStatus.QUEUED, job.getStatus());
+        assertEquals(0, job.getRowsProcessed());
+        assertNull(job.rowsPerSecond(START.plusSeconds(5)));
+        assertNull(job.estimatedRemaining(START.plusSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Should reject a job without spool path")
+    void shouldRejectJobWithoutSpoolPath() {
+        assertThrows(InvalidBillDataException.class,
+                () -> BillImportJob.queue(UUID.randomUUID(), "bills.csv", null, "JPA", null, 1000, START));
+    }
+
+    @Test
+    @DisplayName("Should derive throughput and ETA from committed chunks")
+    void shouldDeriveThroughputAndEta() {
+        // Arrange
+        var job = running(1000);
+
+        // Act
+        job.recordChunk(500, 10, 490, 0, 250, START.plusSeconds(10));
+
+        // Assert
+        assertEquals(1, job.getChunksCommitted());
+        assertEquals(490, job.getRowsSucceeded());
+        assertEquals(50.0, job.rowsPerSecond(START.plusSeconds(10)));
+        assertEquals(Duration.ofSeconds(30), job.estimatedRemaining(START.plusSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("Should complete and freeze throughput at the finish time")
+    void shouldComplete() {
+        // Arrange
+        var job = running(1000);
+        job.recordChunk(500, 0, 500, 0, 500, START.plusSeconds(5));
+
+        // Act
+        job.complete(1000, 2, START.plusSeconds(10));
+
+        // Assert
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1000, job.getBytesRead());
+        assertEquals(100.0, job.rowsPerSecond(START.plusSeconds(60)));
+        assertNull(job.estimatedRemaining(START.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("Should not record progress on a finished job")
+    void shouldNotRecordProgressOnFinishedJob() {
+        // Arrange
+        var job = running(1000);
+        job.fail("boom", START.plusSeconds(1));
+
+        // Act & Assert
+        assertThrows(InvalidBillOperationException.class,
+                () -> job.recordChunk(1, 0, 1, 0, 1, START.plusSeconds(2)));
+        assertThrows(InvalidBillOperationException.class, () -> job.fail("again", START.plusSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("Should report a chunk made only of duplicates")
+    void shouldCompleteWithOnlyDuplicates() {
+        // Arrange
+        var job = running(1000);
+        job.recordChunk(3, 0, 0, 3, 1000, START.plusSeconds(1));
+
+        // Act
+        job.complete(3, 0, START.plusSeconds(2));
+
+        // Assert
+        assertEquals(3, job.getRowsDuplicated());
+        assertEquals("All bills in CSV file were already imported", job.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should finish a job for a file that was already imported")
+    void shouldFinishAlreadyImportedJob() {
+        // Act
+        var job = BillImportJob.alreadyImported(UUID.randomUUID(), "bills.csv", "/tmp/a.csv", "JPA", "ab".repeat(32), 1000, START);
+
+        // Assert
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals("File already imported", job.getMessage());
+        assertEquals(START, job.getFinishedAt());
+    }
+
+    private BillImportJob running(long totalBytes) {
+        return BillImportJob.reconstitute(
+                UUID.randomUUID(), "bills.csv", "/tmp/a.csv", "JPA", "ab".repeat(32), ImportJobStatus.RUNNING,
+                totalBytes, 0, 0, 0, 0, 0, 0, null,
+                START, START, START, null
+        );
+    }
+}
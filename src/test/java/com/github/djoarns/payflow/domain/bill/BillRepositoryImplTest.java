@@ -1,6 +1,8 @@
 package com.github.djoarns.payflow.domain.bill;
 
 import com.github.djoarns.payflow.infrastructure.persistence.entity.BillJpaEntity;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.BillSearchHitProjection;
+import com.github.djoarns.payflow.infrastructure.persistence.projection.PaidTotalProjection;
 import com.github.djoarns.payflow.infrastructure.persistence.repository.BillJpaRepository;
 import com.github.djoarns.payflow.domain.bill.valueobject.*;
 import com.github.djoarns.payflow.util.BaseUnitTest;
@@ -8,12 +10,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
-import org.springframework.data.domain.PageRequest;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,12 +31,20 @@ class BillRepositoryImplTest extends BaseUnitTest {
 
     @Mock
     private BillJpaRepository jpaRepository;
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet resultSet;
 
     private BillRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
-        repository = new BillRepositoryImpl(jpaRepository);
+        repository = new BillRepositoryImpl(jpaRepository, dataSource);
     }
 
     @Test
@@ -91,23 +107,167 @@ class BillRepositoryImplTest extends BaseUnitTest {
         var startDate = LocalDate.now();
         var endDate = LocalDate.now().plusDays(30);
         var description = "Test";
-        var page = 0;
-        var size = 10;
         var jpaEntities = List.of(createTestJpaEntity());
 
-        when(jpaRepository.findByDueDateBetweenAndDescriptionContainingIgnoreCase(
-                eq(startDate), eq(endDate), eq(description), any(PageRequest.class)))
+        when(jpaRepository.findByDueDateOffset(startDate, endDate, "%Test%", 20L, 11))
                 .thenReturn(jpaEntities);
 
         // Act
         var result = repository.findByDueDateBetweenAndDescription(
-                startDate, endDate, description, page, size);
+                startDate, endDate, description, 20L, 11);
 
         // Assert
         assertFalse(result.isEmpty());
         assertEquals(jpaEntities.size(), result.size());
-        verify(jpaRepository).findByDueDateBetweenAndDescriptionContainingIgnoreCase(
-                eq(startDate), eq(endDate), eq(description), any(PageRequest.class));
+        verify(jpaRepository).findByDueDateOffset(startDate, endDate, "%Test%", 20L, 11);
+    }
+
+    @Test
+    @DisplayName("Should read row estimate from query plan")
+    void shouldReadRowEstimateFromQueryPlan() throws SQLException {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusDays(30);
+        var plan = """
+                [{"Plan": {"Node Type": "Index Scan", "Startup Cost": 0.29, "Plan Rows": 1234, "Plan Width": 4}}]
+                """;
+
+        mockExplain();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(plan);
+
+        // Act
+        var result = repository.estimateCountByDueDateBetweenAndDescription(startDate, endDate, "Test");
+
+        // Assert
+        assertEquals(1234L, result);
+        verify(statement).setDate(1, Date.valueOf(startDate));
+        verify(statement).setDate(2, Date.valueOf(endDate));
+        verify(statement).setString(3, "%Test%");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should return zero estimate when plan has no row count")
+    void shouldReturnZeroEstimateWhenPlanHasNoRowCount() throws SQLException {
+        // Arrange
+        mockExplain();
+        when(resultSet.next()).thenReturn(false);
+
+        // Act
+        var result = repository.estimateCountByDueDateBetweenAndDescription(
+                LocalDate.now(), LocalDate.now(), null);
+
+        // Assert
+        assertEquals(0L, result);
+    }
+
+    @Test
+    @DisplayName("Should find first keyset page without cursor")
+    void shouldFindFirstKeysetPageWithoutCursor() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusDays(30);
+
+        when(jpaRepository.findFirstByDueDateKeyset(startDate, endDate, "%Test%", 11))
+                .thenReturn(List.of(createTestJpaEntity()));
+
+        // Act
+        var result = repository.findByDueDateBetweenAndDescriptionAfter(startDate, endDate, "Test", null, 11);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(jpaRepository, never()).findNextByDueDateKeyset(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should seek past cursor on next keyset page")
+    void shouldSeekPastCursorOnNextKeysetPage() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusDays(30);
+        var cursor = BillCursor.of(startDate.plusDays(3), 99L);
+
+        when(jpaRepository.findNextByDueDateKeyset(startDate, endDate, "%", startDate.plusDays(3), 99L, 11))
+                .thenReturn(List.of(createTestJpaEntity()));
+
+        // Act
+        var result = repository.findByDueDateBetweenAndDescriptionAfter(startDate, endDate, null, cursor, 11);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards in keyset description filter")
+    void shouldEscapeLikeWildcardsInKeysetDescriptionFilter() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusDays(30);
+
+        when(jpaRepository.findFirstByDueDateKeyset(startDate, endDate, "%50\\%\\_off\\\\%", 5))
+                .thenReturn(List.of());
+
+        // Act
+        var result = repository.findByDueDateBetweenAndDescriptionAfter(startDate, endDate, "50%_off\\", null, 5);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(jpaRepository).findFirstByDueDateKeyset(startDate, endDate, "%50\\%\\_off\\\\%", 5);
+    }
+
+    @Test
+    @DisplayName("Should stream bills by due date as domain objects")
+    void shouldStreamBillsByDueDateAsDomainObjects() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = startDate.plusDays(90);
+        when(jpaRepository.streamByDueDate(startDate, endDate))
+                .thenReturn(Stream.of(createSearchHitProjection(1L, 0f), createSearchHitProjection(2L, 0f)));
+
+        // Act
+        List<Bill> result;
+        try (var bills = repository.streamByDueDateBetween(startDate, endDate)) {
+            result = bills.toList();
+        }
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(1).getId().getValue());
+        assertEquals("Internet Service - Janeiro", result.get(1).getDescription().getValue());
+    }
+
+    @Test
+    @DisplayName("Should search first page by description")
+    void shouldSearchFirstPageByDescription() {
+        // Arrange
+        var hit = createSearchHitProjection(4L, 0.5f);
+        when(jpaRepository.searchFirstByDescription("internet", 11)).thenReturn(List.of(hit));
+
+        // Act
+        var result = repository.searchByDescription("internet", null, 11);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(4L, result.get(0).bill().getId().getValue());
+        assertEquals(Status.PAID, result.get(0).bill().getStatus());
+        assertEquals(0.5f, result.get(0).rank());
+        verify(jpaRepository, never()).searchNextByDescription(any(), anyFloat(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should search past cursor by description")
+    void shouldSearchPastCursorByDescription() {
+        // Arrange
+        var cursor = SearchCursor.of(0.5f, 4L);
+        when(jpaRepository.searchNextByDescription("internet", 0.5f, 4L, 11)).thenReturn(List.of());
+
+        // Act
+        var result = repository.searchByDescription("internet", cursor, 11);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(jpaRepository).searchNextByDescription("internet", 0.5f, 4L, 11);
     }
 
     @Test
@@ -130,6 +290,47 @@ class BillRepositoryImplTest extends BaseUnitTest {
         verify(jpaRepository).findByPaymentDateBetween(startDate, endDate);
     }
 
+    @Test
+    @DisplayName("Should sum paid bills by payment date between")
+    void shouldSumPaidBillsByPaymentDateBetween() {
+        // Arrange
+        var startDate = LocalDate.now().minusDays(30);
+        var endDate = LocalDate.now();
+        var projection = mock(PaidTotalProjection.class);
+
+        when(projection.getTotalAmount()).thenReturn(new BigDecimal("350.00"));
+        when(projection.getBillCount()).thenReturn(4L);
+        when(jpaRepository.sumPaidByPaymentDateBetween(startDate, endDate))
+                .thenReturn(projection);
+
+        // Act
+        var result = repository.sumPaidByPaymentDateBetween(startDate, endDate);
+
+        // Assert
+        assertEquals(new BigDecimal("350.00"), result.getAmount().getValue());
+        assertEquals(4, result.getBillCount());
+        verify(jpaRepository).sumPaidByPaymentDateBetween(startDate, endDate);
+        verify(jpaRepository, never()).findByPaymentDateBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return empty paid total when aggregate returns nothing")
+    void shouldReturnEmptyPaidTotalWhenAggregateReturnsNothing() {
+        // Arrange
+        var startDate = LocalDate.now().minusDays(30);
+        var endDate = LocalDate.now();
+
+        when(jpaRepository.sumPaidByPaymentDateBetween(startDate, endDate))
+                .thenReturn(null);
+
+        // Act
+        var result = repository.sumPaidByPaymentDateBetween(startDate, endDate);
+
+        // Assert
+        assertEquals(BigDecimal.ZERO, result.getAmount().getValue());
+        assertEquals(0, result.getBillCount());
+    }
+
     @Test
     @DisplayName("Should save all bills successfully")
     void shouldSaveAllBillsSuccessfully() {
@@ -157,8 +358,7 @@ class BillRepositoryImplTest extends BaseUnitTest {
         var description = "Test";
         var expectedCount = 5L;
 
-        when(jpaRepository.countByDueDateBetweenAndDescriptionContainingIgnoreCase(
-                startDate, endDate, description))
+        when(jpaRepository.countByDueDate(startDate, endDate, "%Test%"))
                 .thenReturn(expectedCount);
 
         // Act
@@ -167,8 +367,37 @@ class BillRepositoryImplTest extends BaseUnitTest {
 
         // Assert
         assertEquals(expectedCount, result);
-        verify(jpaRepository).countByDueDateBetweenAndDescriptionContainingIgnoreCase(
-                startDate, endDate, description);
+        verify(jpaRepository).countByDueDate(startDate, endDate, "%Test%");
+    }
+
+    @Test
+    @DisplayName("Should count all bills in range when description is absent")
+    void shouldCountAllBillsInRangeWhenDescriptionIsAbsent() {
+        // Arrange
+        var startDate = LocalDate.now();
+        var endDate = LocalDate.now().plusDays(30);
+
+        when(jpaRepository.countByDueDate(startDate, endDate, "%")).thenReturn(7L);
+
+        // Act
+        var result = repository.countByDueDateBetweenAndDescription(startDate, endDate, "");
+
+        // Assert
+        assertEquals(7L, result);
+    }
+
+    @Test
+    @DisplayName("Should mark one batch of stale pending bills as overdue")
+    void shouldMarkOneBatchOverdue() {
+        // Arrange
+        var today = LocalDate.now();
+        when(jpaRepository.markOverdue(today, 500)).thenReturn(42);
+
+        // Act
+        var updated = repository.markOverdue(today, 500);
+
+        // Assert
+        assertEquals(42, updated);
     }
 
     private Bill createTestBill() {
@@ -179,6 +408,18 @@ class BillRepositoryImplTest extends BaseUnitTest {
         );
     }
 
+    private BillSearchHitProjection createSearchHitProjection(Long id, float rank) {
+        return new BillSearchHitProjection() {
+            public Long getId() { return id; }
+            public LocalDate getDueDate() { return LocalDate.now().minusDays(3); }
+            public LocalDate getPaymentDate() { return LocalDate.now(); }
+            public BigDecimal getAmount() { return new BigDecimal("89.90"); }
+            public String getDescription() { return "Internet Service - Janeiro"; }
+            public String getStatus() { return "PAID"; }
+            public Float getRank() { return rank; }
+        };
+    }
+
     private BillJpaEntity createTestJpaEntity() {
         var entity = new BillJpaEntity();
         entity.setId(1L);
@@ -189,4 +430,10 @@ class BillRepositoryImplTest extends BaseUnitTest {
         entity.setPaymentDate(LocalDate.now());
         return entity;
     }
-}
\ No newline at end of file
+
+    private void mockExplain() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(BillRepositoryImpl.EXPLAIN_BY_DUE_DATE)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+}
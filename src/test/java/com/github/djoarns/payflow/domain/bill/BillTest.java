@@ -87,6 +87,24 @@ class BillTest extends BaseUnitTest {
         assertThrows(InvalidBillStatusException.class, () -> bill.pay(paymentDate));
     }
 
+    @Test
+    @DisplayName("Should reject amounts the bills table cannot hold")
+    void shouldRejectAmountsTheTableCannotHold() {
+        // Arrange
+        var bill = createPendingBill();
+        var dueDate = DueDate.of(LocalDate.now().plusDays(60));
+        var tooLarge = Amount.of(new BigDecimal("99999999.995"));
+        var description = Description.of("Mortgage");
+
+        // Act & Assert
+        var exception = assertThrows(InvalidBillDataException.class,
+                () -> Bill.create(dueDate, tooLarge, description));
+        assertEquals("Amount cannot be greater than 99999999.99", exception.getMessage());
+        assertThrows(InvalidBillDataException.class,
+                () -> bill.update(dueDate, tooLarge, description));
+        assertDoesNotThrow(() -> Bill.create(dueDate, Amount.of(new BigDecimal("99999999.99")), description));
+    }
+
     @Test
     @DisplayName("Should update bill successfully")
     void shouldUpdateBillSuccessfully() {
@@ -0,0 +1,85 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillCursorTest {
+
+    @Nested
+    @DisplayName("BillCursor.of(LocalDate, Long)")
+    class BillCursorOfValues {
+        @Test
+        @DisplayName("Should create cursor with due date and id")
+        void shouldCreateCursorWithDueDateAndId() {
+            // Act
+            BillCursor cursor = BillCursor.of(LocalDate.of(2024, 2, 29), 15L);
+
+            // Assert
+            assertEquals(LocalDate.of(2024, 2, 29), cursor.getDueDate());
+            assertEquals(15L, cursor.getId());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when values are missing")
+        void shouldThrowExceptionWhenValuesAreMissing() {
+            assertThrows(InvalidBillDataException.class, () -> BillCursor.of(null, 1L));
+            assertThrows(InvalidBillDataException.class, () -> BillCursor.of(LocalDate.now(), null));
+        }
+    }
+
+    @Nested
+    @DisplayName("BillCursor.of(String)")
+    class BillCursorOfToken {
+        @Test
+        @DisplayName("Should round-trip through opaque token")
+        void shouldRoundTripThroughOpaqueToken() {
+            // Arrange
+            BillCursor cursor = BillCursor.of(LocalDate.of(2023, 12, 1), 123456789L);
+
+            // Act
+            BillCursor decoded = BillCursor.of(cursor.toToken());
+
+            // Assert
+            assertEquals(cursor, decoded);
+            assertFalse(cursor.toToken().contains("2023"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", " ", "!!!", "bm90LWEtY3Vyc29y"})
+        @DisplayName("Should throw exception when token is malformed")
+        void shouldThrowExceptionWhenTokenIsMalformed(String token) {
+            assertThrows(InvalidBillDataException.class, () -> BillCursor.of(token));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when token has invalid date")
+        void shouldThrowExceptionWhenTokenHasInvalidDate() {
+            // Arrange
+            String token = Base64.getUrlEncoder()
+                    .encodeToString("2024-13-40|1".getBytes(StandardCharsets.UTF_8));
+
+            // Act & Assert
+            InvalidBillDataException exception = assertThrows(
+                    InvalidBillDataException.class,
+                    () -> BillCursor.of(token)
+            );
+            assertEquals("Invalid cursor format", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when token is null")
+        void shouldThrowExceptionWhenTokenIsNull() {
+            assertThrows(InvalidBillDataException.class, () -> BillCursor.of((String) null));
+        }
+    }
+}
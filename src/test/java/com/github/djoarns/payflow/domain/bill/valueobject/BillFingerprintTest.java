@@ -0,0 +1,78 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillFingerprintTest {
+    private static final DueDate DUE_DATE = DueDate.of(LocalDate.of(2024, 12, 1));
+
+    @Test
+    @DisplayName("Should ignore amount scale, whitespace and case")
+    void shouldNormalizeBeforeHashing() {
+        // Act
+        var first = BillFingerprint.of(DUE_DATE, Amount.of(new BigDecimal("10.5")), Description.of("Internet  Bill"));
+        var second = BillFingerprint.of(DUE_DATE, Amount.of(new BigDecimal("10.50")), Description.of(" internet\tbill "));
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should distinguish bills that differ in any field")
+    void shouldDistinguishDifferentBills() {
+        // Arrange
+        var amount = Amount.of(new BigDecimal("10.00"));
+        var description = Description.of("Internet");
+
+        // Act
+        var fingerprint = BillFingerprint.of(DUE_DATE, amount, description);
+
+        // Assert
+        assertNotEquals(fingerprint, BillFingerprint.of(DueDate.of(LocalDate.of(2024, 12, 2)), amount, description));
+        assertNotEquals(fingerprint, BillFingerprint.of(DUE_DATE, Amount.of(new BigDecimal("10.01")), description));
+        assertNotEquals(fingerprint, BillFingerprint.of(DUE_DATE, amount, Description.of("Internet 2")));
+    }
+
+    @Test
+    @DisplayName("Should only fold ASCII case and whitespace, like the SQL backfill")
+    void shouldOnlyNormalizeAscii() {
+        // Arrange
+        var amount = Amount.of(new BigDecimal("10.00"));
+
+        // Act
+        var fingerprint = BillFingerprint.of(DUE_DATE, amount, Description.of("Água Bill"));
+
+        // Assert
+        assertEquals(fingerprint, BillFingerprint.of(DUE_DATE, amount, Description.of("Água\u000BBILL")));
+        assertNotEquals(fingerprint, BillFingerprint.of(DUE_DATE, amount, Description.of("água Bill")));
+        assertNotEquals(fingerprint, BillFingerprint.of(DUE_DATE, amount, Description.of("Água\u00A0Bill")));
+    }
+
+    @Test
+    @DisplayName("Should round-trip through hex")
+    void shouldRoundTripThroughHex() {
+        // Arrange
+        var fingerprint = BillFingerprint.of(DUE_DATE, Amount.of(BigDecimal.ONE), Description.of("Water"));
+
+        // Act
+        var hex = fingerprint.toHex();
+
+        // Assert
+        assertEquals(64, hex.length());
+        assertEquals(fingerprint, BillFingerprint.fromHex(hex));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed hex")
+    void shouldRejectMalformedHex() {
+        assertThrows(InvalidBillDataException.class, () -> BillFingerprint.fromHex("abc"));
+        assertThrows(InvalidBillDataException.class, () -> BillFingerprint.fromHex("ab"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaidTotalTest {
+
+    @Nested
+    @DisplayName("PaidTotal.of")
+    class PaidTotalOf {
+        @Test
+        @DisplayName("Should create PaidTotal with amount and count")
+        void shouldCreatePaidTotalWithAmountAndCount() {
+            // Act
+            PaidTotal paidTotal = PaidTotal.of(new BigDecimal("250.75"), 3);
+
+            // Assert
+            assertEquals(new BigDecimal("250.75"), paidTotal.getAmount().getValue());
+            assertEquals(3, paidTotal.getBillCount());
+        }
+
+        @Test
+        @DisplayName("Should treat null total as zero")
+        void shouldTreatNullTotalAsZero() {
+            // Act
+            PaidTotal paidTotal = PaidTotal.of(null, 0);
+
+            // Assert
+            assertEquals(BigDecimal.ZERO, paidTotal.getAmount().getValue());
+            assertEquals(0, paidTotal.getBillCount());
+        }
+
+        @Test
+        @DisplayName("Should treat zero total as zero amount")
+        void shouldTreatZeroTotalAsZeroAmount() {
+            // Act
+            PaidTotal paidTotal = PaidTotal.of(new BigDecimal("0.00"), 0);
+
+            // Assert
+            assertEquals(BigDecimal.ZERO, paidTotal.getAmount().getValue());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when count is negative")
+        void shouldThrowExceptionWhenCountIsNegative() {
+            // Act & Assert
+            InvalidBillDataException exception = assertThrows(
+                    InvalidBillDataException.class,
+                    () -> PaidTotal.of(BigDecimal.TEN, -1)
+            );
+            assertEquals("Bill count cannot be negative", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("PaidTotal.empty")
+    class PaidTotalEmpty {
+        @Test
+        @DisplayName("Should create empty PaidTotal")
+        void shouldCreateEmptyPaidTotal() {
+            // Act
+            PaidTotal paidTotal = PaidTotal.empty();
+
+            // Assert
+            assertEquals(BigDecimal.ZERO, paidTotal.getAmount().getValue());
+            assertEquals(0, paidTotal.getBillCount());
+        }
+    }
+}
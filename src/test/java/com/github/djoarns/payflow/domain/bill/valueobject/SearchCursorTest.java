@@ -0,0 +1,47 @@
+package com.github.djoarns.payflow.domain.bill.valueobject;
+
+import com.github.djoarns.payflow.domain.bill.exception.InvalidBillDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(floats = {0f, 0.0607927f, 0.1f, 1.0e-20f, 0.99999994f})
+    @DisplayName("Should round-trip rank exactly through token")
+    void shouldRoundTripRankExactlyThroughToken(float rank) {
+        // Arrange
+        var cursor = SearchCursor.of(rank, 77L);
+
+        // Act
+        var decoded = SearchCursor.of(cursor.toToken());
+
+        // Assert
+        assertEquals(Float.floatToIntBits(rank), Float.floatToIntBits(decoded.getRank()));
+        assertEquals(77L, decoded.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "!!!", "MC41"})
+    @DisplayName("Should throw exception when token is malformed")
+    void shouldThrowExceptionWhenTokenIsMalformed(String token) {
+        assertThrows(InvalidBillDataException.class, () -> SearchCursor.of(token));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when rank is not finite")
+    void shouldThrowExceptionWhenRankIsNotFinite() {
+        assertThrows(InvalidBillDataException.class, () -> SearchCursor.of(Float.NaN, 1L));
+        assertThrows(InvalidBillDataException.class, () -> SearchCursor.of(Float.POSITIVE_INFINITY, 1L));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when id is missing")
+    void shouldThrowExceptionWhenIdIsMissing() {
+        assertThrows(InvalidBillDataException.class, () -> SearchCursor.of(0.5f, null));
+    }
+}
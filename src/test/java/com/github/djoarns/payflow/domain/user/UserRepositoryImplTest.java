@@ -3,8 +3,10 @@ package com.github.djoarns.payflow.domain.user;
 import com.github.djoarns.payflow.domain.user.valueobject.Password;
 import com.github.djoarns.payflow.domain.user.valueobject.UserId;
 import com.github.djoarns.payflow.domain.user.valueobject.Username;
+import com.github.djoarns.payflow.infrastructure.cache.UserDetailsCache;
 import com.github.djoarns.payflow.infrastructure.persistence.entity.UserJpaEntity;
 import com.github.djoarns.payflow.infrastructure.persistence.repository.UserJpaRepository;
+import com.github.djoarns.payflow.infrastructure.security.JwtRevocationList;
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,12 +25,16 @@ class UserRepositoryImplTest extends BaseUnitTest {
 
     @Mock
     private UserJpaRepository jpaRepository;
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    @Mock
+    private JwtRevocationList revocationList;
 
     private UserRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
-        repository = new UserRepositoryImpl(jpaRepository);
+        repository = new UserRepositoryImpl(jpaRepository, userDetailsCache, revocationList);
     }
 
     @Nested
@@ -64,6 +70,7 @@ class UserRepositoryImplTest extends BaseUnitTest {
             assertEquals(Set.of(Role.USER), result.getRoles());
             assertTrue(result.isEnabled());
             verify(jpaRepository).save(any(UserJpaEntity.class));
+            verify(revocationList, never()).revokeAll(any());
         }
 
         @Test
@@ -96,6 +103,8 @@ class UserRepositoryImplTest extends BaseUnitTest {
             assertEquals(1L, result.getId().getValue());
             assertEquals(Set.of(Role.USER, Role.ADMIN), result.getRoles());
             verify(jpaRepository).save(any(UserJpaEntity.class));
+            verify(userDetailsCache).invalidate("testuser");
+            verify(revocationList).revokeAll("testuser");
         }
     }
 
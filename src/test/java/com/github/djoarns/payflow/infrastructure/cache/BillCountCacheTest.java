@@ -0,0 +1,65 @@
+package com.github.djoarns.payflow.infrastructure.cache;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BillCountCacheTest extends BaseUnitTest {
+
+    private final BillCountCache cache = new BillCountCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    @DisplayName("Should load count once per filter")
+    void shouldLoadCountOncePerFilter() {
+        // Arrange
+        var loads = new AtomicInteger();
+        var startDate = LocalDate.of(2024, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+
+        // Act
+        var first = cache.get(startDate, endDate, "Rent", () -> loads.incrementAndGet() * 10L);
+        var second = cache.get(startDate, endDate, "RENT", () -> loads.incrementAndGet() * 10L);
+        var other = cache.get(startDate, endDate.plusDays(1), "Rent", () -> loads.incrementAndGet() * 10L);
+
+        // Assert
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        assertEquals(20L, other);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should treat null and empty description as the same filter")
+    void shouldTreatNullAndEmptyDescriptionAsTheSameFilter() {
+        // Arrange
+        var startDate = LocalDate.of(2024, 1, 1);
+
+        // Act
+        cache.get(startDate, startDate, null, () -> 3L);
+        var result = cache.get(startDate, startDate, "", () -> 99L);
+
+        // Assert
+        assertEquals(3L, result);
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation")
+    void shouldReloadAfterInvalidation() {
+        // Arrange
+        var startDate = LocalDate.of(2024, 1, 1);
+        cache.get(startDate, startDate, "Rent", () -> 1L);
+
+        // Act
+        cache.invalidateAll();
+        var result = cache.get(startDate, startDate, "Rent", () -> 2L);
+
+        // Assert
+        assertEquals(2L, result);
+    }
+}
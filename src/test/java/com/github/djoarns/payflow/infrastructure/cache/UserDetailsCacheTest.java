@@ -0,0 +1,142 @@
+package com.github.djoarns.payflow.infrastructure.cache;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTest extends BaseUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserDetailsCache cache = new UserDetailsCache(Duration.ofMinutes(5), 100, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a cold key once under concurrent lookups")
+    void shouldLoadColdKeyOnceUnderConcurrentLookups() throws Exception {
+        // Arrange
+        int threads = 8;
+        var loads = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // Act
+            List<Future<UserDetails>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("testuser", username -> {
+                        loads.incrementAndGet();
+                        sleep();
+                        return user(username);
+                    });
+                }));
+            }
+            start.countDown();
+
+            // Assert
+            UserDetails first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (var result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record hits and misses")
+    void shouldRecordHitsAndMisses() {
+        // Act
+        cache.get("testuser", this::user);
+        cache.get("testuser", this::user);
+        cache.get("testuser", this::user);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("cache.gets")
+                .tags("cache", UserDetailsCache.NAME, "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tags("cache", UserDetailsCache.NAME, "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reload user after invalidation")
+    void shouldReloadAfterInvalidation() {
+        // Arrange
+        var loads = new AtomicInteger();
+        cache.get("testuser", username -> {
+            loads.incrementAndGet();
+            return user(username);
+        });
+
+        // Act
+        cache.invalidate("testuser");
+        cache.get("testuser", username -> {
+            loads.incrementAndGet();
+            return user(username);
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict again after the surrounding transaction commits")
+    void shouldEvictAgainAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get("testuser", this::user);
+
+        // Act
+        cache.invalidate("testuser");
+        UserDetails staleReload = cache.get("testuser", this::user);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        UserDetails afterCommit = cache.get("testuser", this::user);
+
+        // Assert
+        assertNotSame(staleReload, afterCommit);
+    }
+
+    private UserDetails user(String username) {
+        return User.withUsername(username)
+                .password("password")
+                .authorities(new ArrayList<>())
+                .build();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
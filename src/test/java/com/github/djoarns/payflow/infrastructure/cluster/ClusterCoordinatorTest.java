@@ -0,0 +1,160 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClusterCoordinatorTest extends BaseUnitTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+
+    private final FakeAdvisoryLockDatabase database = new FakeAdvisoryLockDatabase();
+
+    @Test
+    @DisplayName("Should let exactly one of several nodes run a task at a time")
+    void shouldRunOnExactlyOneNode() throws Exception {
+        // Arrange
+        var nodes = List.of(
+                new ClusterCoordinator(database.node()),
+                new ClusterCoordinator(database.node()),
+                new ClusterCoordinator(database.node())
+        );
+        var start = new CountDownLatch(1);
+        var running = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+
+        try {
+            // Act
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (var node : nodes) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return node.runExclusively("sweep", () -> {
+                        runs.incrementAndGet();
+                        running.countDown();
+                        await(finish);
+                    });
+                }));
+            }
+            start.countDown();
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            assertTrue(database.isLocked("sweep"));
+            // Hold the lease until every other node has tried and given up.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (results.stream().filter(Future::isDone).count() < nodes.size() - 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            finish.countDown();
+
+            // Assert
+            long ran = 0;
+            for (var result : results) {
+                ran += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, ran);
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(database.isLocked("sweep"));
+        assertEquals(0, database.openConnections());
+        assertTrue(database.leakedSessions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand the lease to another node once it is released")
+    void shouldHandOverReleasedLease() {
+        // Arrange
+        var first = new ClusterCoordinator(database.node());
+        var second = new ClusterCoordinator(database.node());
+
+        // Act & Assert
+        try (var lease = first.tryAcquire("rollup").orElseThrow()) {
+            assertEquals("rollup", lease.getName());
+            assertTrue(second.tryAcquire("rollup").isEmpty());
+            assertTrue(second.runExclusively("other", () -> { }));
+        }
+        assertTrue(second.runExclusively("rollup", () -> { }));
+        assertEquals(0, database.openConnections());
+    }
+
+    @Test
+    @DisplayName("Should free the lease when the holding node's session dies")
+    void shouldFreeLeaseWhenHolderDies() {
+        // Arrange
+        var crashed = new ClusterCoordinator(database.node());
+        var survivor = new ClusterCoordinator(database.node());
+        var orphan = crashed.tryAcquire("import:1").orElseThrow();
+
+        // Act
+        database.terminateHolder("import:1");
+
+        // Assert
+        assertTrue(survivor.runExclusively("import:1", () -> { }));
+        orphan.close();
+    }
+
+    @Test
+    @DisplayName("Should translate SQL errors and close the connection")
+    void shouldTranslateSqlErrors() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(ClusterCoordinator.TRY_LOCK)).thenThrow(new SQLException("boom"));
+        var coordinator = new ClusterCoordinator(dataSource);
+
+        // Act & Assert
+        assertThrows(UncategorizedSQLException.class, () -> coordinator.tryAcquire("sweep"));
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should give names with equal string hash codes separate locks")
+    void shouldKeepLocksApartForCollidingHashCodes() {
+        // Arrange
+        var database = new FakeAdvisoryLockDatabase();
+        var coordinator = new ClusterCoordinator(database.node());
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        // Act
+        var first = coordinator.tryAcquire("Aa");
+        var second = coordinator.tryAcquire("BB");
+
+        // Assert
+        assertNotEquals(ClusterCoordinator.key("Aa"), ClusterCoordinator.key("BB"));
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        first.get().close();
+        second.get().close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterSingletonAspectTest extends BaseUnitTest {
+
+    private final FakeAdvisoryLockDatabase database = new FakeAdvisoryLockDatabase();
+
+    @Test
+    @DisplayName("Should run a scheduled method on one node while it is held")
+    void shouldRunScheduledMethodOnOneNode() throws Exception {
+        // Arrange
+        var runs = new AtomicInteger();
+        var running = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var leader = node(new SweepJob(runs, running, finish));
+        var follower = node(new SweepJob(runs, new CountDownLatch(1), new CountDownLatch(0)));
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            var leaderRun = executor.submit(leader::sweep);
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            follower.sweep();
+            finish.countDown();
+            leaderRun.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(1, runs.get());
+            follower.sweep();
+            assertEquals(2, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, database.openConnections());
+    }
+
+    @Test
+    @DisplayName("Should name the lease after the method when no name is given")
+    void shouldDefaultLeaseName() {
+        // Arrange
+        var job = node(new UnnamedJob(database));
+
+        // Act
+        job.run();
+
+        // Assert
+        assertTrue(job.sawLock());
+    }
+
+    private <T> T node(T target) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ClusterSingletonAspect(new ClusterCoordinator(database.node())));
+        return factory.getProxy();
+    }
+
+    static class SweepJob {
+        private final AtomicInteger runs;
+        private final CountDownLatch running;
+        private final CountDownLatch finish;
+
+        SweepJob(AtomicInteger runs, CountDownLatch running, CountDownLatch finish) {
+            this.runs = runs;
+            this.running = running;
+            this.finish = finish;
+        }
+
+        @ClusterSingleton("sweep")
+        public void sweep() {
+            runs.incrementAndGet();
+            running.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class UnnamedJob {
+        private final FakeAdvisoryLockDatabase database;
+        private boolean sawLock;
+
+        UnnamedJob(FakeAdvisoryLockDatabase database) {
+            this.database = database;
+        }
+
+        @ClusterSingleton
+        public void run() {
+            sawLock = database.isLocked("UnnamedJob.run");
+        }
+
+        public boolean sawLock() {
+            return sawLock;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.djoarns.payflow.infrastructure.cluster;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stands in for PostgreSQL's session advisory locks so several nodes can share one "database"
+ * inside a test JVM: a lock belongs to the connection that took it, and closing that connection
+ * releases it, the way a dropped session does.
+ */
+final class FakeAdvisoryLockDatabase {
+    private final Map<Long, Integer> owners = new HashMap<>();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final List<Integer> leakedSessions = new ArrayList<>();
+    private int openConnections;
+
+    DataSource node() {
+        return (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> connect();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    synchronized boolean isLocked(String name) {
+        return owners.containsKey(ClusterCoordinator.key(name));
+    }
+
+    /**
+     * Drops the session holding the lock, as when its node dies or loses the network.
+     */
+    synchronized void terminateHolder(String name) {
+        owners.remove(ClusterCoordinator.key(name));
+    }
+
+    synchronized int openConnections() {
+        return openConnections;
+    }
+
+    synchronized List<Integer> leakedSessions() {
+        return List.copyOf(leakedSessions);
+    }
+
+    private synchronized Connection connect() {
+        openConnections++;
+        int session = sessions.incrementAndGet();
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "prepareStatement" -> statement(session, (String) args[0]);
+                    case "close", "abort" -> {
+                        disconnect(session, closed, method.getName().equals("close"));
+                        yield null;
+                    }
+                    case "isClosed" -> closed[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private synchronized void disconnect(int session, boolean[] closed, boolean graceful) {
+        if (closed[0]) {
+            return;
+        }
+        closed[0] = true;
+        openConnections--;
+        if (owners.values().removeIf(owner -> owner == session) && graceful) {
+            leakedSessions.add(session);
+        }
+    }
+
+    private PreparedStatement statement(int session, String sql) {
+        long[] params = new long[1];
+        return (PreparedStatement) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "setLong" -> {
+                        params[(int) args[0] - 1] = (long) args[1];
+                        yield null;
+                    }
+                    case "executeQuery" -> result(execute(session, sql, params));
+                    case "execute" -> {
+                        execute(session, sql, params);
+                        yield true;
+                    }
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private synchronized boolean execute(int session, String sql, long[] params) throws SQLException {
+        var key = params[0];
+        if (sql.equals(ClusterCoordinator.TRY_LOCK)) {
+            return owners.putIfAbsent(key, session) == null || owners.get(key) == session;
+        }
+        if (sql.equals(ClusterLease.UNLOCK)) {
+            return owners.remove(key, session);
+        }
+        throw new SQLException("Unexpected statement " + sql);
+    }
+
+    private ResultSet result(boolean value) {
+        boolean[] consumed = {false};
+        return (ResultSet) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> {
+                        boolean hasRow = !consumed[0];
+                        consumed[0] = true;
+                        yield hasRow;
+                    }
+                    case "getBoolean" -> value;
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.BillImportRejection;
+import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillCSVExporterTest extends BaseUnitTest {
+
+    private final BillCSVExporter exporter = new BillCSVExporter();
+
+    @Test
+    @DisplayName("Should write header and one line per bill")
+    void shouldWriteHeaderAndOneLinePerBill() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+        var bill = createBill(1L, "Internet Service - Janeiro", new BigDecimal("89.90"));
+        bill.pay(PaymentDate.of(LocalDate.of(2024, 1, 9)));
+
+        // Act
+        var rows = exporter.export(Stream.of(bill), output);
+
+        // Assert
+        assertEquals(1, rows);
+        assertEquals(
+                BillCSVExporter.HEADER + "\n"
+                        + "2024-01-10,89.90,Internet Service - Janeiro,1,2024-01-09,PAID\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    @DisplayName("Should write import rejections as CSV")
+    void shouldWriteImportRejections() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+        var rejections = List.of(
+                new BillImportRejection(3, "amount", "Invalid value '1,5': not a decimal number"),
+                new BillImportRejection(7, null, "Unterminated quoted field")
+        );
+
+        // Act
+        var rows = exporter.exportRejections(rejections, output);
+
+        // Assert
+        assertEquals(2, rows);
+        assertEquals(
+                BillCSVExporter.REJECTIONS_HEADER + "\n"
+                        + "3,amount,\"Invalid value '1,5': not a decimal number\"\n"
+                        + "7,,Unterminated quoted field\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    @DisplayName("Should quote descriptions with separators and quotes")
+    void shouldQuoteDescriptionsWithSeparatorsAndQuotes() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+        var bill = createBill(2L, "Energia, \"bandeira\" vermelha", new BigDecimal("180.00"));
+
+        // Act
+        exporter.export(Stream.of(bill), output);
+
+        // Assert
+        assertTrue(output.toString(StandardCharsets.UTF_8)
+                .contains(",\"Energia, \"\"bandeira\"\" vermelha\",2,,PENDING\n"));
+    }
+
+    @Test
+    @DisplayName("Should write only header when there are no bills")
+    void shouldWriteOnlyHeaderWhenThereAreNoBills() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var rows = exporter.export(Stream.empty(), output);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals(BillCSVExporter.HEADER + "\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should round-trip through the CSV importer")
+    void shouldRoundTripThroughTheCsvImporter() throws IOException {
+        // Arrange
+        var bills = List.of(
+                createBill(1L, "Aluguel do escritório - Janeiro", new BigDecimal("250.00")),
+                createBill(2L, "Energia, \"bandeira\" vermelha", new BigDecimal("180.5")),
+                createBill(3L, "Linha 1\nLinha 2", new BigDecimal("0.01"))
+        );
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        exporter.export(bills.stream(), output);
+        var imported = new BillCSVImporter().importBills(new ByteArrayInputStream(output.toByteArray()));
+
+        // Assert
+        assertEquals(bills.size(), imported.size());
+        for (int i = 0; i < bills.size(); i++) {
+            assertEquals(bills.get(i).getDueDate(), imported.get(i).getDueDate());
+            assertEquals(0, bills.get(i).getAmount().getValue().compareTo(imported.get(i).getAmount().getValue()));
+            assertEquals(bills.get(i).getDescription(), imported.get(i).getDescription());
+        }
+    }
+
+    private Bill createBill(Long id, String description, BigDecimal amount) {
+        return Bill.reconstitute(
+                BillId.of(id),
+                DueDate.of(LocalDate.of(2024, 1, 10)),
+                null,
+                Amount.of(amount),
+                Description.of(description),
+                Status.PENDING
+        );
+    }
+}
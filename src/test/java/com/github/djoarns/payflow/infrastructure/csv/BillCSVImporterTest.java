@@ -2,7 +2,6 @@ package com.github.djoarns.payflow.infrastructure.csv;
 
 import com.github.djoarns.payflow.domain.bill.Bill;
 import com.github.djoarns.payflow.util.BaseUnitTest;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +11,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,8 +85,8 @@ class BillCSVImporterTest extends BaseUnitTest {
         }
 
         @Test
-        @DisplayName("Should handle CSV with empty description")
-        void shouldHandleCsvWithEmptyDescription() {
+        @DisplayName("Should reject rows with an empty description")
+        void shouldHandleCsvWithEmptyDescription() throws IOException {
             // Arrange
             String csvContent = """
                 dueDate,amount,description
@@ -95,15 +95,12 @@ class BillCSVImporterTest extends BaseUnitTest {
                 """;
             InputStream inputStream = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8));
 
-            // Act & Assert
-            RuntimeException exception = assertThrows(
-                    RuntimeException.class,
-                    () -> importer.importBills(inputStream)
-            );
-            assertInstanceOf(CsvRequiredFieldEmptyException.class, exception.getCause());
+            // Act
+            List<Bill> bills = importer.importBills(inputStream);
 
-            CsvRequiredFieldEmptyException cause = (CsvRequiredFieldEmptyException) exception.getCause();
-            assertEquals("Field 'description' is mandatory but no value was provided.", cause.getMessage());
+            // Assert
+            assertEquals(1, bills.size());
+            assertEquals("Valid Bill", bills.get(0).getDescription().getValue());
         }
 
         @Test
@@ -114,15 +111,305 @@ class BillCSVImporterTest extends BaseUnitTest {
             InputStream inputStream = new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8));
 
             // Act & Assert
-            RuntimeException exception = assertThrows(
-                    RuntimeException.class,
+            BillCSVParseException exception = assertThrows(
+                    BillCSVParseException.class,
                     () -> importer.importBills(inputStream)
             );
-            assertInstanceOf(CsvRequiredFieldEmptyException.class, exception.getCause());
+            assertEquals(
+                    "Line 1: Header is missing required fields [amount, description, dueDate], found [malformed, csv, content]",
+                    exception.getMessage()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("importBills rejections")
+    class ImportBillsRejections {
+        @Test
+        @DisplayName("Should report line, column and reason of rejected rows")
+        void shouldReportRejectedRows() throws IOException {
+            // Arrange
+            String csvContent = """
+                dueDate,amount,description
+                2024-12-01,10.00,"Multi
+                line"
+                2024-13-01,20.00,Bad date
+                2024-12-03,-3.00,Negative
+                2024-12-04,40.00,
+                """;
+            var rejections = new BillCSVRejections(10);
+
+            // Act
+            var summary = importer.importBills(toStream(csvContent), 10, 0, rejections, (chunk, progress) -> { });
+
+            // Assert
+            assertEquals(3, summary.invalidRows());
+            assertEquals(3, rejections.count());
+            assertFalse(rejections.truncated());
+            var kept = rejections.kept();
+            assertEquals(4, kept.get(0).line());
+            assertEquals("dueDate", kept.get(0).column());
+            assertEquals(5, kept.get(1).line());
+            assertEquals("amount", kept.get(1).column());
+            assertEquals(6, kept.get(2).line());
+            assertEquals("description", kept.get(2).column());
+            assertEquals("Field is mandatory but no value was provided", kept.get(2).reason());
+        }
+
+        @Test
+        @DisplayName("Should reject an amount the bills table cannot hold and keep the other rows")
+        void shouldRejectAmountTooLargeForColumn() throws IOException {
+            // Arrange
+            String csvContent = """
+                dueDate,amount,description
+                2024-12-01,10.00,Water
+                2024-12-02,100000000.00,Mortgage
+                2024-12-03,99999999.99,House
+                """;
+            var rejections = new BillCSVRejections(10);
+            List<Bill> saved = new ArrayList<>();
+
+            // Act
+            var summary = importer.importBills(toStream(csvContent), 10, 0, rejections, (chunk, progress) -> saved.addAll(chunk));
+
+            // Assert
+            assertEquals(1, summary.invalidRows());
+            assertEquals(List.of("Water", "House"), saved.stream().map(bill -> bill.getDescription().getValue()).toList());
+            var rejection = rejections.kept().get(0);
+            assertEquals(3, rejection.line());
+            assertEquals("amount", rejection.column());
+            assertEquals("Amount cannot be greater than 99999999.99", rejection.reason());
+        }
 
-            CsvRequiredFieldEmptyException cause = (CsvRequiredFieldEmptyException) exception.getCause();
-            String expectedMessage = "Header is missing required fields [AMOUNT, DESCRIPTION, DUEDATE]. The list of headers encountered is [malformed,csv,content].";
-            assertEquals(expectedMessage, cause.getMessage());
+        @Test
+        @DisplayName("Should keep only the first rejections but count all of them")
+        void shouldCapKeptRejections() throws IOException {
+            // Arrange
+            var csv = new StringBuilder("dueDate,amount,description\n");
+            for (int i = 0; i < 50; i++) {
+                csv.append("2024-12-01,-1.00,Bill ").append(i).append('\n');
+            }
+            var rejections = new BillCSVRejections(5);
+
+            // Act
+            importer.importBills(toStream(csv.toString()), 10, 10, rejections, (chunk, progress) -> { });
+
+            // Assert
+            assertEquals(40, rejections.count());
+            assertTrue(rejections.truncated());
+            assertEquals(5, rejections.drain().size());
+            assertTrue(rejections.drain().isEmpty());
+            assertEquals(12, rejections.kept().get(0).line());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("importBills in parallel")
+    class ImportBillsInParallel {
+        @Test
+        @DisplayName("Should produce the same chunks and counts as the sequential importer")
+        void shouldMatchSequentialImport() throws IOException {
+            // Arrange
+            var csv = new StringBuilder("dueDate,amount,description\n");
+            for (int i = 0; i < 5_000; i++) {
+                var amount = i % 97 == 0 ? "-1.00" : i + ".10";
+                csv.append("2024-12-01,").append(amount).append(",\"Bill ").append(i).append("\nnext line\"\n");
+            }
+            var parallel = new BillCSVImporter(4, 512);
+            List<String> sequentialRows = new ArrayList<>();
+            List<String> parallelRows = new ArrayList<>();
+
+            try {
+                // Act
+                var expected = importer.importBills(toStream(csv.toString()), 100, 10, new BillCSVRejections(0), (chunk, progress) ->
+                        chunk.forEach(bill -> sequentialRows.add(bill.getDescription().getValue())));
+                var actual = parallel.importBills(toStream(csv.toString()), 100, 10, new BillCSVRejections(0), (chunk, progress) ->
+                        chunk.forEach(bill -> parallelRows.add(bill.getDescription().getValue())));
+
+                // Assert
+                assertEquals(expected, actual);
+                assertEquals(4_990, actual.totalRows());
+                assertEquals(51, actual.invalidRows());
+                assertEquals(sequentialRows, parallelRows);
+            } finally {
+                parallel.close();
+            }
+        }
+        @Test
+        @DisplayName("Should treat a quote inside an unquoted field as a literal when cutting segments")
+        void shouldTreatMidFieldQuoteAsLiteral() throws IOException {
+            // Arrange
+            var csv = new StringBuilder("dueDate,amount,description\n");
+            csv.append("2024-01-01,10.00,Monitor 27\" wide\n");
+            for (int i = 0; i < 200; i++) {
+                csv.append("2024-12-01,").append(i + 1).append(".00,Bill ").append(i).append('\n');
+            }
+            csv.append("2024-12-01,5.00,\"multi\nline\"\n");
+            for (int i = 200; i < 400; i++) {
+                csv.append("2024-12-01,").append(i + 1).append(".00,Bill ").append(i).append('\n');
+            }
+
+            for (int segmentBytes : new int[]{64, 256, 1024, 4096}) {
+                for (int threads : new int[]{1, 4}) {
+                    var segmented = new BillCSVImporter(threads, segmentBytes);
+                    var rejections = new BillCSVRejections(10);
+                    List<String> descriptions = new ArrayList<>();
+                    try {
+                        // Act
+                        var summary = segmented.importBills(toStream(csv.toString()), 100, 0, rejections, (chunk, progress) ->
+                                chunk.forEach(bill -> descriptions.add(bill.getDescription().getValue())));
+
+                        // Assert
+                        assertEquals(402, summary.totalRows(), "segment bytes " + segmentBytes);
+                        assertEquals(0, summary.invalidRows(), "segment bytes " + segmentBytes);
+                        assertTrue(rejections.kept().isEmpty(), "segment bytes " + segmentBytes);
+                        assertEquals("Monitor 27\" wide", descriptions.get(0));
+                        assertEquals("multi\nline", descriptions.get(201));
+                    } finally {
+                        segmented.close();
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject an unterminated quote and keep the rows after it")
+        void shouldRecoverFromUnterminatedQuote() throws IOException {
+            for (int following : new int[]{3, 2_000}) {
+                // Arrange
+                var csv = new StringBuilder("dueDate,amount,description\n");
+                csv.append("2024-12-01,1.00,Before\n");
+                csv.append("2024-12-01,2.00,\"Broken\n");
+                for (int i = 0; i < following; i++) {
+                    csv.append("2024-12-01,").append(i + 1).append(".00,Bill ").append(i).append('\n');
+                }
+
+                for (int segmentBytes : new int[]{64, 1024, 1024 * 1024}) {
+                    for (int threads : new int[]{1, 4}) {
+                        var segmented = new BillCSVImporter(threads, segmentBytes);
+                        var rejections = new BillCSVRejections(10);
+                        List<String> descriptions = new ArrayList<>();
+                        var context = following + " rows, segment bytes " + segmentBytes + ", threads " + threads;
+                        try {
+                            // Act
+                            var summary = segmented.importBills(toStream(csv.toString()), 100, 0, rejections, (chunk, progress) ->
+                                    chunk.forEach(bill -> descriptions.add(bill.getDescription().getValue())));
+
+                            // Assert
+                            assertEquals(following + 2, summary.totalRows(), context);
+                            assertEquals(1, summary.invalidRows(), context);
+                            assertEquals(3, rejections.kept().get(0).line(), context);
+                            assertEquals("Unterminated quoted field", rejections.kept().get(0).reason(), context);
+                            assertEquals(following + 1, descriptions.size(), context);
+                            assertEquals("Before", descriptions.get(0), context);
+                            assertEquals("Bill " + (following - 1), descriptions.get(following), context);
+                        } finally {
+                            segmented.close();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("importBills in chunks")
+    class ImportBillsInChunks {
+        @Test
+        @DisplayName("Should hand over bounded chunks in file order")
+        void shouldHandOverBoundedChunksInFileOrder() throws IOException {
+            // Arrange
+            String csvContent = """
+                dueDate,amount,description
+                2024-12-01,10.00,Bill 1
+                2024-12-02,20.00,Bill 2
+                2024-12-03,30.00,Bill 3
+                2024-12-04,40.00,Bill 4
+                2024-12-05,50.00,Bill 5
+                """;
+            List<List<Bill>> chunks = new ArrayList<>();
+
+            // Act
+            var summary = importer.importBills(toStream(csvContent), 2, chunk -> chunks.add(List.copyOf(chunk)));
+
+            // Assert
+            assertEquals(5, summary.totalRows());
+            assertEquals(0, summary.invalidRows());
+            assertEquals(List.of(2, 2, 1), chunks.stream().map(List::size).toList());
+            assertEquals("Bill 5", chunks.get(2).get(0).getDescription().getValue());
+        }
+
+        @Test
+        @DisplayName("Should count invalid rows without handing them over")
+        void shouldCountInvalidRowsWithoutHandingThemOver() throws IOException {
+            // Arrange
+            String csvContent = """
+                dueDate,amount,description
+                2024-12-01,10.00,Valid Bill
+                2024-12-02,-5.00,Negative Bill
+                """;
+            List<Bill> bills = new ArrayList<>();
+
+            // Act
+            var summary = importer.importBills(toStream(csvContent), 10, bills::addAll);
+
+            // Assert
+            assertEquals(2, summary.totalRows());
+            assertEquals(1, summary.invalidRows());
+            assertEquals(1, bills.size());
+        }
+
+        @Test
+        @DisplayName("Should skip already imported rows and report progress per chunk")
+        void shouldSkipImportedRowsAndReportProgress() throws IOException {
+            // Arrange
+            String csvContent = """
+                dueDate,amount,description
+                2024-12-01,10.00,Bill 1
+                2024-12-02,20.00,Bill 2
+                2024-12-03,-3.00,Invalid
+                2024-12-04,40.00,Bill 4
+                2024-12-05,50.00,Bill 5
+                """;
+            List<BillCSVImportSummary> progress = new ArrayList<>();
+            List<Bill> bills = new ArrayList<>();
+
+            // Act
+            var summary = importer.importBills(toStream(csvContent), 1, 2, new BillCSVRejections(0), (chunk, chunkProgress) -> {
+                bills.addAll(chunk);
+                progress.add(chunkProgress);
+            });
+
+            // Assert
+            assertEquals(3, summary.totalRows());
+            assertEquals(1, summary.invalidRows());
+            assertEquals(List.of("Bill 4", "Bill 5"), bills.stream().map(bill -> bill.getDescription().getValue()).toList());
+            assertEquals(List.of(new BillCSVImportSummary(2, 1), new BillCSVImportSummary(3, 1)), progress);
+        }
+
+        @Test
+        @DisplayName("Should not call consumer for empty file")
+        void shouldNotCallConsumerForEmptyFile() throws IOException {
+            // Arrange
+            List<List<Bill>> chunks = new ArrayList<>();
+
+            // Act
+            var summary = importer.importBills(toStream("dueDate,amount,description\n"), 10, chunks::add);
+
+            // Assert
+            assertEquals(0, summary.totalRows());
+            assertTrue(chunks.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive chunk size")
+        void shouldRejectNonPositiveChunkSize() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> importer.importBills(toStream(""), 0, chunk -> { }));
+        }
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillCSVParserTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should parse dates, amounts and descriptions from raw bytes")
+    void shouldParseFields() throws IOException {
+        // Arrange
+        var parser = parser("""
+                dueDate,amount,description
+                2024-12-31, -100.50 ,Energia elétrica
+                2025-01-01,7,Água
+                """);
+
+        // Act & Assert
+        assertTrue(parser.next());
+        assertEquals(LocalDate.of(2024, 12, 31), parser.dueDate());
+        assertEquals(new BigDecimal("-100.50"), parser.amount());
+        assertEquals("Energia elétrica", parser.description());
+        assertEquals(2, parser.line());
+
+        assertTrue(parser.next());
+        assertEquals(new BigDecimal("7"), parser.amount());
+        assertEquals("Água", parser.description());
+        assertFalse(parser.next());
+    }
+
+    @Test
+    @DisplayName("Should match columns by header name and ignore unknown ones")
+    void shouldMatchColumnsByHeaderName() throws IOException {
+        // Arrange
+        var parser = parser("DESCRIPTION,id,dueDate,Amount\r\nRent,1,2024-12-01,10.00\r\n");
+
+        // Act & Assert
+        assertTrue(parser.next());
+        assertEquals("Rent", parser.description());
+        assertEquals(LocalDate.of(2024, 12, 1), parser.dueDate());
+        assertEquals(new BigDecimal("10.00"), parser.amount());
+        assertFalse(parser.next());
+    }
+
+    @Test
+    @DisplayName("Should unquote fields with separators, doubled quotes and line breaks")
+    void shouldUnquoteFields() throws IOException {
+        // Arrange
+        var parser = parser("""
+                dueDate,amount,description
+                2024-12-01,10.00,"Rent, ""main"" office
+                second floor"
+                2024-12-02,20.00,Next
+                """);
+
+        // Act & Assert
+        assertTrue(parser.next());
+        assertEquals("Rent, \"main\" office\nsecond floor", parser.description());
+        assertTrue(parser.next());
+        assertEquals(4, parser.line());
+        assertEquals("Next", parser.description());
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quote and resume on the next line")
+    void shouldResumeAfterUnterminatedQuote() throws IOException {
+        // Arrange
+        var parser = parser("""
+                dueDate,amount,description
+                2024-12-01,10.00,"Broken
+                2024-12-02,20.00,Next
+                2024-12-03,30.00,Last
+                """);
+
+        // Act & Assert
+        assertTrue(parser.next());
+        var exception = assertThrows(BillCSVParseException.class, parser::description);
+        assertEquals("Line 2: Unterminated quoted field", exception.getMessage());
+        assertTrue(parser.next());
+        assertEquals(3, parser.line());
+        assertEquals("Next", parser.description());
+        assertTrue(parser.next());
+        assertEquals("Last", parser.description());
+        assertFalse(parser.next());
+    }
+
+    @Test
+    @DisplayName("Should skip a byte order mark and blank lines")
+    void shouldSkipByteOrderMarkAndBlankLines() throws IOException {
+        // Arrange
+        var bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+        bytes.write("dueDate,amount,description\n\n2024-12-01,1.5,A\n\n".getBytes(StandardCharsets.UTF_8));
+        var parser = new BillCSVParser(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Act & Assert
+        assertTrue(parser.next());
+        assertEquals(3, parser.line());
+        assertEquals(new BigDecimal("1.5"), parser.amount());
+        assertFalse(parser.next());
+    }
+
+    @Test
+    @DisplayName("Should report line and column of invalid values")
+    void shouldReportInvalidValues() throws IOException {
+        // Arrange
+        var parser = parser("""
+                dueDate,amount,description
+                2024-02-30,12a,
+                """);
+        parser.next();
+
+        // Act
+        var date = assertThrows(BillCSVParseException.class, parser::dueDate);
+        var amount = assertThrows(BillCSVParseException.class, parser::amount);
+        var description = assertThrows(BillCSVParseException.class, parser::description);
+
+        // Assert
+        assertEquals(2, date.getLine());
+        assertEquals("dueDate", date.getColumn());
+        assertEquals("amount", amount.getColumn());
+        assertEquals("Line 2, column 'amount': Invalid value '12a': not a decimal number", amount.getMessage());
+        assertEquals("description", description.getColumn());
+    }
+
+    @Test
+    @DisplayName("Should fall back to BigDecimal parsing for very long amounts")
+    void shouldParseLongAmounts() throws IOException {
+        // Arrange
+        var parser = parser("dueDate,amount,description\n2024-12-01,12345678901234567890.12,Big\n");
+
+        // Act
+        parser.next();
+
+        // Assert
+        assertEquals(new BigDecimal("12345678901234567890.12"), parser.amount());
+    }
+
+    @Test
+    @DisplayName("Should parse records spanning buffer refills")
+    void shouldParseAcrossBufferRefills() throws IOException {
+        // Arrange
+        var csv = new StringBuilder("dueDate,amount,description\n");
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("2024-12-01,").append(i).append(".25,\"Bill ").append(i).append("\"\n");
+        }
+        var parser = parser(csv.toString());
+
+        // Act
+        int rows = 0;
+        String last = null;
+        while (parser.next()) {
+            parser.amount();
+            last = parser.description();
+            rows++;
+        }
+
+        // Assert
+        assertEquals(20_000, rows);
+        assertEquals("Bill 19999", last);
+    }
+
+    private BillCSVParser parser(String content) throws IOException {
+        InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        return new BillCSVParser(in);
+    }
+}
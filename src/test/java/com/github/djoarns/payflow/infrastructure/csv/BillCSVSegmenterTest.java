@@ -0,0 +1,70 @@
+package com.github.djoarns.payflow.infrastructure.csv;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillCSVSegmenterTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should cut segments on record boundaries outside quotes")
+    void shouldCutOnRecordBoundaries() throws IOException {
+        // Arrange
+        var csv = """
+                dueDate,amount,description
+                2024-12-01,1.00,"multi
+                line, quoted"
+                2024-12-02,2.00,B
+                2024-12-03,3.00,C
+                """;
+        var segmenter = new BillCSVSegmenter(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), 10);
+
+        // Act
+        var header = segmenter.header();
+        List<BillCSVSegmenter.Segment> segments = new ArrayList<>();
+        for (var segment = segmenter.next(); segment != null; segment = segmenter.next()) {
+            segments.add(segment);
+        }
+
+        // Assert
+        assertEquals("dueDate,amount,description\n", text(header));
+        assertEquals(3, segments.size());
+        assertEquals("2024-12-01,1.00,\"multi\nline, quoted\"\n", text(segments.get(0)));
+        assertEquals(2, segments.get(0).firstLine());
+        assertEquals(4, segments.get(1).firstLine());
+        assertEquals(5, segments.get(2).firstLine());
+    }
+
+    @Test
+    @DisplayName("Should keep file line numbers when segments are parsed independently")
+    void shouldKeepFileLineNumbers() throws IOException {
+        // Arrange
+        var csv = "﻿dueDate,amount,description\n2024-12-01,1.00,\"a\n\nb\"\n\n2024-12-02,oops,B\n";
+        var segmenter = new BillCSVSegmenter(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), 1);
+        var columns = new BillCSVParser(new ByteArrayInputStream(segmenter.header().bytes())).columns();
+        segmenter.next();
+        segmenter.next();
+        var last = segmenter.next();
+
+        // Act
+        var parser = new BillCSVParser(last.bytes(), columns, last.firstLine());
+        parser.next();
+
+        // Assert
+        var exception = assertThrows(BillCSVParseException.class, parser::amount);
+        assertEquals(6, exception.getLine());
+        assertNull(segmenter.next());
+    }
+
+    private String text(BillCSVSegmenter.Segment segment) {
+        return new String(segment.bytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.djoarns.payflow.infrastructure.importjob;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillImportSpoolTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should spool, reopen with a byte count and delete an upload")
+    void shouldSpoolReopenAndDelete() throws Exception {
+        // Arrange
+        var spool = new BillImportSpool(directory.resolve("imports"));
+        var content = "dueDate,amount,description\n".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        var spooled = spool.spool(UUID.randomUUID(), new ByteArrayInputStream(content));
+        var path = spooled.path();
+
+        // Assert
+        assertEquals(content.length, spooled.size());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)), spooled.sha256());
+        assertTrue(spool.exists(path.toString()));
+        try (var in = spool.open(path.toString())) {
+            assertArrayEquals(content, in.readAllBytes());
+            assertEquals(content.length, in.getCount());
+        }
+        spool.delete(path.toString());
+        assertFalse(spool.exists(path.toString()));
+        assertFalse(Files.list(directory.resolve("imports")).findAny().isPresent());
+    }
+}
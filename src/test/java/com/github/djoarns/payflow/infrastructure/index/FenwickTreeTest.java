@@ -0,0 +1,89 @@
+package com.github.djoarns.payflow.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenwickTreeTest {
+
+    @Test
+    @DisplayName("Should reject non-positive size")
+    void shouldRejectNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FenwickTree(0));
+    }
+
+    @Test
+    @DisplayName("Should compute prefix and range sums")
+    void shouldComputePrefixAndRangeSums() {
+        // Arrange
+        var tree = new FenwickTree(10);
+
+        // Act
+        tree.add(0, 5);
+        tree.add(3, 10);
+        tree.add(9, 1);
+        tree.add(3, -4);
+
+        // Assert
+        assertEquals(5, tree.prefixSum(0));
+        assertEquals(11, tree.prefixSum(3));
+        assertEquals(12, tree.prefixSum(9));
+        assertEquals(6, tree.rangeSum(1, 3));
+        assertEquals(7, tree.rangeSum(3, 9));
+        assertEquals(0, tree.rangeSum(5, 4));
+    }
+
+    @Test
+    @DisplayName("Should match naive sums for random updates")
+    void shouldMatchNaiveSumsForRandomUpdates() {
+        // Arrange
+        var size = 7305;
+        var tree = new FenwickTree(size);
+        var naive = new long[size];
+        var random = new Random(42);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(size);
+            long delta = random.nextInt(1_000_000);
+            tree.add(index, delta);
+            naive[index] += delta;
+        }
+
+        // Assert
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from);
+            long expected = 0;
+            for (int j = from; j <= to; j++) {
+                expected += naive[j];
+            }
+            assertEquals(expected, tree.rangeSum(from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reset all slots on clear")
+    void shouldResetAllSlotsOnClear() {
+        // Arrange
+        var tree = new FenwickTree(4);
+        tree.add(2, 7);
+
+        // Act
+        tree.clear();
+
+        // Assert
+        assertEquals(0, tree.prefixSum(3));
+    }
+
+    @Test
+    @DisplayName("Should reject index out of bounds")
+    void shouldRejectIndexOutOfBounds() {
+        var tree = new FenwickTree(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.prefixSum(-1));
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.djoarns.payflow.infrastructure.index;
+
+import com.github.djoarns.payflow.domain.bill.BillDailyTotalRepository;
+import com.github.djoarns.payflow.domain.bill.valueobject.Amount;
+import com.github.djoarns.payflow.domain.bill.valueobject.PaidTotal;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PaidTotalsIndexTest extends BaseUnitTest {
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    private static final Duration COMMIT_WAIT = Duration.ofMillis(200);
+
+    @Mock
+    private BillDailyTotalRepository billDailyTotalRepository;
+
+    @Test
+    @DisplayName("Should not answer when disabled")
+    void shouldNotAnswerWhenDisabled() {
+        // Arrange
+        var index = new PaidTotalsIndex(billDailyTotalRepository, false, START, 365, COMMIT_WAIT);
+
+        // Act
+        index.warmUp();
+        index.recordPayment(START, Amount.of(BigDecimal.TEN));
+
+        // Assert
+        assertFalse(index.isReady());
+        assertTrue(index.sum(START, START.plusDays(10)).isEmpty());
+        verifyNoInteractions(billDailyTotalRepository);
+    }
+
+    @Test
+    @DisplayName("Should not answer before warm up")
+    void shouldNotAnswerBeforeWarmUp() {
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+        assertTrue(index.sum(START, START.plusDays(10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should sum warmed days and recorded payments")
+    void shouldSumWarmedDaysAndRecordedPayments() {
+        // Arrange
+        when(billDailyTotalRepository.findAll()).thenReturn(Map.of(
+                START.plusDays(1), PaidTotal.of(new BigDecimal("100.50"), 2),
+                START.plusDays(40), PaidTotal.of(new BigDecimal("20.25"), 1)
+        ));
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+
+        // Act
+        index.warmUp();
+        index.recordPayment(START.plusDays(5), Amount.of(new BigDecimal("9.25")));
+
+        // Assert
+        var all = index.sum(START, START.plusDays(364)).orElseThrow();
+        assertEquals(new BigDecimal("130.00"), all.getAmount().getValue());
+        assertEquals(4, all.getBillCount());
+
+        var firstWeek = index.sum(START, START.plusDays(6)).orElseThrow();
+        assertEquals(new BigDecimal("109.75"), firstWeek.getAmount().getValue());
+        assertEquals(3, firstWeek.getBillCount());
+    }
+
+    @Test
+    @DisplayName("Should not count a payment committed before the snapshot twice")
+    void shouldNotCountPaymentCommittedBeforeSnapshotTwice() throws Exception {
+        // Arrange
+        when(billDailyTotalRepository.findAll())
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(START, PaidTotal.of(new BigDecimal("5.00"), 1)));
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, Duration.ofSeconds(10));
+        index.warmUp();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.recordPayment(START, Amount.of(new BigDecimal("5.00")));
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+            // Act
+            var rebuild = CompletableFuture.runAsync(index::rebuild);
+            Thread.sleep(100);
+            boolean rebuiltBeforeApply = rebuild.isDone();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+                sync.afterCommit();
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            });
+            rebuild.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertFalse(rebuiltBeforeApply);
+            var total = index.sum(START, START).orElseThrow();
+            assertEquals(new BigDecimal("5.00"), total.getAmount().getValue());
+            assertEquals(1, total.getBillCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the previous totals when a commit does not finish in time")
+    void shouldKeepPreviousTotalsWhenCommitDoesNotFinishInTime() {
+        // Arrange
+        when(billDailyTotalRepository.findAll())
+                .thenReturn(Map.of(START, PaidTotal.of(new BigDecimal("10.00"), 1)));
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+        index.warmUp();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.recordPayment(START, Amount.of(new BigDecimal("5.00")));
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+            // Act
+            CompletableFuture.runAsync(index::rebuild).join();
+
+            // Assert
+            var total = index.sum(START, START).orElseThrow();
+            assertEquals(new BigDecimal("10.00"), total.getAmount().getValue());
+            verify(billDailyTotalRepository).findAll();
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should clamp ranges when no data lies outside the window")
+    void shouldClampRangesWhenNoDataLiesOutsideTheWindow() {
+        // Arrange
+        when(billDailyTotalRepository.findAll()).thenReturn(Map.of(
+                START, PaidTotal.of(new BigDecimal("10.00"), 1)
+        ));
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+        index.warmUp();
+
+        // Act
+        var result = index.sum(START.minusYears(5), START.plusYears(5));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(new BigDecimal("10.00"), result.get().getAmount().getValue());
+    }
+
+    @Test
+    @DisplayName("Should fall back when data exists outside the window")
+    void shouldFallBackWhenDataExistsOutsideTheWindow() {
+        // Arrange
+        when(billDailyTotalRepository.findAll()).thenReturn(Map.of(
+                START.minusDays(1), PaidTotal.of(new BigDecimal("10.00"), 1)
+        ));
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+        index.warmUp();
+
+        // Act & Assert
+        assertTrue(index.sum(START.minusDays(10), START.plusDays(10)).isEmpty());
+        assertTrue(index.sum(START, START.plusDays(10)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should defer recorded payments until commit")
+    void shouldDeferRecordedPaymentsUntilCommit() {
+        // Arrange
+        when(billDailyTotalRepository.findAll()).thenReturn(Map.of());
+        var index = new PaidTotalsIndex(billDailyTotalRepository, true, START, 365, COMMIT_WAIT);
+        index.warmUp();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            index.recordPayment(START, Amount.of(new BigDecimal("5.00")));
+
+            // Assert
+            assertEquals(0, index.sum(START, START).orElseThrow().getBillCount());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, index.sum(START, START).orElseThrow().getBillCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.djoarns.payflow.infrastructure.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.djoarns.payflow.application.bill.result.BillBatchItem;
+import com.github.djoarns.payflow.domain.bill.Bill;
+import com.github.djoarns.payflow.domain.bill.valueobject.*;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BillNdjsonExporterTest extends BaseUnitTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final BillNdjsonExporter exporter = new BillNdjsonExporter(objectMapper);
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var rows = exporter.export(Stream.of(createBill(1L), createBill(2L)), output);
+
+        // Assert
+        assertEquals(2, rows);
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(
+                "{\"id\":1,\"dueDate\":\"2024-01-10\",\"paymentDate\":null,\"amount\":89.90,"
+                        + "\"description\":\"Internet \\\"fibra\\\"\\nJaneiro\",\"status\":\"PENDING\"}",
+                lines[0]
+        );
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Should write batch results without empty fields")
+    void shouldWriteBatchResults() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        exporter.exportBatchItems(
+                List.of(BillBatchItem.created(0, 7L), BillBatchItem.rejected(1, "Amount cannot be null")),
+                output
+        );
+
+        // Assert
+        assertEquals(
+                "{\"index\":0,\"status\":201,\"id\":7}\n{\"index\":1,\"status\":400,\"error\":\"Amount cannot be null\"}\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    @DisplayName("Should write nothing when there are no bills")
+    void shouldWriteNothingWhenThereAreNoBills() throws IOException {
+        // Arrange
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var rows = exporter.export(Stream.empty(), output);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals(0, output.size());
+    }
+
+    private Bill createBill(Long id) {
+        return Bill.reconstitute(
+                BillId.of(id),
+                DueDate.of(LocalDate.of(2024, 1, 10)),
+                null,
+                Amount.of(new BigDecimal("89.90")),
+                Description.of("Internet \"fibra\"\nJaneiro"),
+                Status.PENDING
+        );
+    }
+}
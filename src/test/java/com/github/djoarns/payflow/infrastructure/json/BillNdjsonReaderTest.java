@@ -0,0 +1,90 @@
+package com.github.djoarns.payflow.infrastructure.json;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillNdjsonReaderTest extends BaseUnitTest {
+
+    private final BillNdjsonReader reader = new BillNdjsonReader(JsonMapper.builder().findAndAddModules().build());
+
+    @Test
+    @DisplayName("Should read one row per line and ignore unknown fields")
+    void shouldReadOneRowPerLine() throws IOException {
+        // Arrange
+        var content = """
+                {"dueDate":"2024-12-01","amount":10.50,"description":"Water","tags":["home",{"a":1}]}
+                {"dueDate":"2024-12-02","amount":"20","description":"Power"}
+                """;
+
+        // Act
+        var rows = read(content);
+
+        // Assert
+        assertEquals(List.of(
+                new BillNdjsonReader.Row(0, LocalDate.of(2024, 12, 1), new BigDecimal("10.50"), "Water", null),
+                new BillNdjsonReader.Row(1, LocalDate.of(2024, 12, 2), new BigDecimal("20"), "Power", null)
+        ), rows);
+    }
+
+    @Test
+    @DisplayName("Should reject only the row with an invalid field")
+    void shouldRejectOnlyInvalidRow() throws IOException {
+        // Arrange
+        var content = """
+                {"dueDate":"2024-13-01","amount":10,"description":"Water"}
+                {"dueDate":"2024-12-01","amount":{"value":10},"description":"Gas"}
+                ["not", "an", "object"]
+                {"dueDate":null,"amount":10,"description":"Power"}
+                """;
+
+        // Act
+        var rows = read(content);
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertEquals("Invalid value '2024-13-01' for field 'dueDate'", rows.get(0).error());
+        assertEquals("Field 'amount' must be a string", rows.get(1).error());
+        assertEquals("Gas", rows.get(1).description());
+        assertEquals("Each line must be a JSON object", rows.get(2).error());
+        assertNull(rows.get(3).error());
+        assertNull(rows.get(3).dueDate());
+    }
+
+    @Test
+    @DisplayName("Should stop at malformed JSON")
+    void shouldStopAtMalformedJson() throws IOException {
+        // Arrange
+        var content = """
+                {"dueDate":"2024-12-01","amount":10,"description":"Water"}
+                {"dueDate":"2024-12-01",
+                {"dueDate":"2024-12-03","amount":30,"description":"Gas"}
+                """;
+
+        // Act
+        var rows = read(content);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertNull(rows.get(0).error());
+        assertEquals(1, rows.get(1).index());
+        assertEquals("Malformed JSON at line 3", rows.get(1).error());
+    }
+
+    private List<BillNdjsonReader.Row> read(String content) throws IOException {
+        List<BillNdjsonReader.Row> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), rows::add);
+        return rows;
+    }
+}
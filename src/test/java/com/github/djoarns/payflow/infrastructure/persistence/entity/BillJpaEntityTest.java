@@ -2,9 +2,13 @@ package com.github.djoarns.payflow.infrastructure.persistence.entity;
 
 import com.github.djoarns.payflow.domain.bill.valueobject.Status;
 import com.github.djoarns.payflow.util.BaseUnitTest;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +36,22 @@ class BillJpaEntityTest extends BaseUnitTest {
         assertNull(entity.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Should allocate ids from a batch-friendly sequence")
+    void shouldAllocateIdsFromABatchFriendlySequence() throws NoSuchFieldException {
+        // Arrange
+        Field id = BillJpaEntity.class.getDeclaredField("id");
+
+        // Act
+        GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+        SequenceGenerator sequenceGenerator = id.getAnnotation(SequenceGenerator.class);
+
+        // Assert
+        assertEquals(GenerationType.SEQUENCE, generatedValue.strategy());
+        assertEquals("bills_id_seq", sequenceGenerator.sequenceName());
+        assertTrue(sequenceGenerator.allocationSize() >= 50 && sequenceGenerator.allocationSize() <= 500);
+    }
+
     @Test
     @DisplayName("Should set and get all fields")
     void shouldSetAndGetAllFields() {
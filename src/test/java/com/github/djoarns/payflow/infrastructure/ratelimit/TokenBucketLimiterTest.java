@@ -0,0 +1,154 @@
+package com.github.djoarns.payflow.infrastructure.ratelimit;
+
+import com.github.djoarns.payflow.infrastructure.hash.Hash64;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest extends BaseUnitTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity then report wait time")
+    void shouldAllowBurstUpToCapacity() {
+        // Arrange
+        var limiter = new TokenBucketLimiter(3, Duration.ofSeconds(1), 16, clock::get);
+        long key = Hash64.of("10.0.0.1");
+
+        // Act
+        long first = limiter.tryAcquire(key);
+        long second = limiter.tryAcquire(key);
+        long third = limiter.tryAcquire(key);
+        long fourth = limiter.tryAcquire(key);
+
+        // Assert
+        assertEquals(0L, first);
+        assertEquals(0L, second);
+        assertEquals(0L, third);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), fourth);
+    }
+
+    @Test
+    @DisplayName("Should refill one token per refill period")
+    void shouldRefillOneTokenPerPeriod() {
+        // Arrange
+        var limiter = new TokenBucketLimiter(2, Duration.ofSeconds(1), 16, clock::get);
+        long key = Hash64.of("user");
+        limiter.tryAcquire(key);
+        limiter.tryAcquire(key);
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+        long refilled = limiter.tryAcquire(key);
+        long empty = limiter.tryAcquire(key);
+
+        // Assert
+        assertEquals(0L, refilled);
+        assertTrue(empty > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void shouldKeepSeparateBucketsPerKey() {
+        // Arrange
+        var limiter = new TokenBucketLimiter(1, Duration.ofMinutes(1), 16, clock::get);
+        limiter.tryAcquire(Hash64.of("alice"));
+
+        // Act
+        long alice = limiter.tryAcquire(Hash64.of("alice"));
+        long bob = limiter.tryAcquire(Hash64.of("bob"));
+
+        // Assert
+        assertTrue(alice > 0);
+        assertEquals(0L, bob);
+    }
+
+    @Test
+    @DisplayName("Should stay within a fixed table while tracking many more keys")
+    void shouldStayBoundedUnderManyKeys() {
+        // Arrange
+        var limiter = new TokenBucketLimiter(1, Duration.ofMinutes(1), 64, clock::get);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(0L, limiter.tryAcquire(Hash64.of("user-" + i)));
+        }
+
+        // Assert
+        assertEquals(64, limiter.capacity());
+    }
+
+    @Test
+    @DisplayName("Should reuse slots whose buckets have refilled before evicting active ones")
+    void shouldPreferRefilledSlotsForEviction() {
+        // Arrange
+        var limiter = new TokenBucketLimiter(1, Duration.ofSeconds(1), 8, clock::get);
+        for (int i = 0; i < 7; i++) {
+            limiter.tryAcquire(Hash64.of("idle-" + i));
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_500));
+        long attacker = Hash64.of("attacker");
+        limiter.tryAcquire(attacker);
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        for (int i = 0; i < 7; i++) {
+            assertEquals(0L, limiter.tryAcquire(Hash64.of("fresh-" + i)));
+        }
+        long stillLimited = limiter.tryAcquire(attacker);
+
+        // Assert
+        assertTrue(stillLimited > 0);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens under contention")
+    void shouldHandOutExactlyCapacityUnderContention() throws Exception {
+        // Arrange
+        var limiter = new TokenBucketLimiter(100, Duration.ofHours(1), 16, clock::get);
+        long key = Hash64.of("10.0.0.1");
+        int threads = 8;
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // Act
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.tryAcquire(key) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            // Assert
+            int granted = 0;
+            for (var result : results) {
+                granted += result.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(100, granted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
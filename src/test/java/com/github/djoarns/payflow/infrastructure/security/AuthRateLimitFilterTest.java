@@ -0,0 +1,133 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimitFilterTest extends BaseUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthRateLimitFilter filter = new AuthRateLimitFilter(
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry,
+            true,
+            3, Duration.ofMinutes(1),
+            2, Duration.ofMinutes(1),
+            1024
+    );
+
+    @Test
+    @DisplayName("Should pass body through unchanged to the controller")
+    void shouldReplayBody() throws ServletException, IOException {
+        // Arrange
+        String body = "{\"username\":\"testuser\",\"password\":\"secret\"}";
+        var chain = new MockFilterChain();
+
+        // Act
+        var response = send(login("10.0.0.1", body), chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(body, new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should reject repeated attempts for the same username with 429")
+    void shouldRejectPerUsername() throws ServletException, IOException {
+        // Arrange
+        String body = "{\"password\":\"guess\",\"username\":\"victim\"}";
+        send(login("10.0.0.1", body), new MockFilterChain());
+        send(login("10.0.0.2", body), new MockFilterChain());
+        var chain = new MockFilterChain();
+
+        // Act
+        var response = send(login("10.0.0.3", body), chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("60", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains("RATE_LIMITED"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("payflow.auth.rate-limit.rejected")
+                .tag("key", "username").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject bursts from one address across usernames")
+    void shouldRejectPerAddress() throws ServletException, IOException {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            send(login("10.0.0.9", "{\"username\":\"user" + i + "\"}"), new MockFilterChain());
+        }
+
+        // Act
+        var response = send(login("10.0.0.9", "{\"username\":\"user9\"}"), new MockFilterChain());
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals(1.0, meterRegistry.get("payflow.auth.rate-limit.rejected")
+                .tag("key", "address").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not limit requests outside the auth endpoints")
+    void shouldIgnoreOtherPaths() throws ServletException, IOException {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            var request = new MockHttpServletRequest("GET", "/api/v1/bills");
+            request.setRemoteAddr("10.0.0.1");
+
+            // Act
+            var response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+
+            // Assert
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should forward oversized bodies intact without inspecting them")
+    void shouldForwardOversizedBodies() throws ServletException, IOException {
+        // Arrange
+        String body = "{\"username\":\"testuser\",\"padding\":\"" + "x".repeat(20_000) + "\"}";
+        var chain = new MockFilterChain();
+
+        // Act
+        var response = send(login("10.0.0.1", body), chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(body, new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, MockFilterChain chain)
+            throws ServletException, IOException {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest login(String address, String body) {
+        var request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
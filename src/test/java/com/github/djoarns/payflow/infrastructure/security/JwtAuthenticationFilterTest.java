@@ -1,6 +1,7 @@
 package com.github.djoarns.payflow.infrastructure.security;
 
 import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +15,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,12 +36,16 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
     private FilterChain filterChain;
     @Mock
     private UserDetails userDetails;
+    @Mock
+    private JwtRevocationList revocationList;
+    @Mock
+    private Claims claims;
 
     private JwtAuthenticationFilter filter;
 
     @BeforeEach
     void setUp() {
-        filter = new JwtAuthenticationFilter(jwtService, userDetailsService);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, revocationList, false);
         SecurityContextHolder.clearContext();
     }
 
@@ -53,7 +60,7 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).extractUsername(any());
+        verify(jwtService, never()).parse(any());
     }
 
     @Test
@@ -67,7 +74,7 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).extractUsername(any());
+        verify(jwtService, never()).parse(any());
     }
 
     @Test
@@ -77,15 +84,19 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
         String jwt = "valid.jwt.token";
         String username = "testuser";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtService.extractUsername(jwt)).thenReturn(username);
+        JwtToken token = new JwtToken(username, new Date(System.currentTimeMillis() + 60_000), null);
+        when(jwtService.parse(jwt)).thenReturn(token);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtService.isTokenValid(jwt, userDetails)).thenReturn(true);
+        when(jwtService.isTokenValid(token, userDetails)).thenReturn(true);
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
+        verify(jwtService).parse(jwt);
+        verify(jwtService).isTokenValid(token, userDetails);
+        verifyNoMoreInteractions(jwtService);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(userDetails, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
     }
@@ -97,9 +108,10 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
         String jwt = "invalid.jwt.token";
         String username = "testuser";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtService.extractUsername(jwt)).thenReturn(username);
+        JwtToken token = new JwtToken(username, new Date(System.currentTimeMillis() + 60_000), null);
+        when(jwtService.parse(jwt)).thenReturn(token);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtService.isTokenValid(jwt, userDetails)).thenReturn(false);
+        when(jwtService.isTokenValid(token, userDetails)).thenReturn(false);
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
@@ -115,7 +127,26 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
         // Arrange
         String jwt = "invalid.jwt.token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtService.extractUsername(jwt)).thenReturn(null);
+        when(jwtService.parse(jwt)).thenReturn(new JwtToken(null, null, null));
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verify(userDetailsService, never()).loadUserByUsername(any());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Should not authenticate when token has been revoked")
+    void shouldNotAuthenticateWhenTokenRevoked() throws ServletException, IOException {
+        // Arrange
+        String jwt = "revoked.jwt.token";
+        JwtToken token = new JwtToken("testuser", new Date(System.currentTimeMillis() + 60_000), null);
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtService.parse(jwt)).thenReturn(token);
+        when(revocationList.isRevoked(token)).thenReturn(true);
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
@@ -125,4 +156,71 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
         verify(userDetailsService, never()).loadUserByUsername(any());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should authenticate from signed claims without loading user in stateless mode")
+    void shouldAuthenticateFromClaimsInStatelessMode() throws ServletException, IOException {
+        // Arrange
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, revocationList, true);
+        String jwt = "valid.jwt.token";
+        when(claims.get(JwtToken.ROLES_CLAIM)).thenReturn(List.of("ROLE_ADMIN"));
+        when(claims.get(JwtToken.ENABLED_CLAIM)).thenReturn(true);
+        JwtToken token = new JwtToken("testuser", new Date(System.currentTimeMillis() + 60_000), claims);
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtService.parse(jwt)).thenReturn(token);
+        when(jwtService.isTokenValid(token)).thenReturn(true);
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userDetailsService);
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("testuser", authentication.getName());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should not authenticate stateless token whose claims fail validation")
+    void shouldNotAuthenticateInvalidStatelessToken() throws ServletException, IOException {
+        // Arrange
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, revocationList, true);
+        String jwt = "disabled.jwt.token";
+        when(claims.get(JwtToken.ROLES_CLAIM)).thenReturn(List.of("ROLE_USER"));
+        when(claims.get(JwtToken.ENABLED_CLAIM)).thenReturn(false);
+        JwtToken token = new JwtToken("testuser", new Date(System.currentTimeMillis() + 60_000), claims);
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtService.parse(jwt)).thenReturn(token);
+        when(jwtService.isTokenValid(token)).thenReturn(false);
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userDetailsService);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Should fall back to user lookup for tokens without role claims in stateless mode")
+    void shouldFallBackToLookupForLegacyTokensInStatelessMode() throws ServletException, IOException {
+        // Arrange
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, revocationList, true);
+        String jwt = "legacy.jwt.token";
+        JwtToken token = new JwtToken("testuser", new Date(System.currentTimeMillis() + 60_000), claims);
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtService.parse(jwt)).thenReturn(token);
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+        when(jwtService.isTokenValid(token, userDetails)).thenReturn(true);
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        assertEquals(userDetails, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+}
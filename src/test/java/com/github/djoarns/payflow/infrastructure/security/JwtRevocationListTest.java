@@ -0,0 +1,96 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtRevocationListTest extends BaseUnitTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00.250Z");
+
+    @Test
+    @DisplayName("Should not revoke tokens of users without entry")
+    void shouldNotRevokeUnknownUser() {
+        // Arrange
+        var revocationList = new JwtRevocationList(Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        boolean revoked = revocationList.isRevoked(token("testuser", NOW.minusSeconds(10)));
+
+        // Assert
+        assertFalse(revoked);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued up to the revocation second")
+    void shouldRevokeTokensIssuedBeforeCutoff() {
+        // Arrange
+        var revocationList = new JwtRevocationList(Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        revocationList.revokeAll("testuser");
+
+        // Assert
+        assertTrue(revocationList.isRevoked(token("testuser", NOW.minusSeconds(60))));
+        assertTrue(revocationList.isRevoked(token("testuser", Instant.parse("2024-05-01T12:00:00Z"))));
+        assertFalse(revocationList.isRevoked(token("testuser", NOW.plusSeconds(1))));
+        assertFalse(revocationList.isRevoked(token("otheruser", NOW.minusSeconds(60))));
+    }
+
+    @Test
+    @DisplayName("Should drop entries once every matching token has expired")
+    void shouldPurgeExpiredEntries() {
+        // Arrange
+        var clock = new MutableClock(NOW);
+        var revocationList = new JwtRevocationList(Duration.ofHours(1), clock);
+        revocationList.revokeAll("olduser");
+
+        // Act
+        clock.instant = NOW.plus(Duration.ofHours(2));
+        revocationList.revokeAll("newuser");
+
+        // Assert
+        assertEquals(1, revocationList.size());
+        assertTrue(revocationList.isRevoked(token("newuser", NOW)));
+    }
+
+    private static JwtToken token(String username, Instant issuedAt) {
+        Claims claims = new DefaultClaims();
+        claims.setSubject(username);
+        claims.setIssuedAt(Date.from(issuedAt));
+        return new JwtToken(username, null, claims);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
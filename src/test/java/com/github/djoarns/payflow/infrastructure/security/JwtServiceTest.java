@@ -2,12 +2,12 @@ package com.github.djoarns.payflow.infrastructure.security;
 
 import com.github.djoarns.payflow.util.BaseUnitTest;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 
@@ -21,9 +21,7 @@ class JwtServiceTest extends BaseUnitTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", EXPIRATION);
+        jwtService = new JwtService(SECRET_KEY, EXPIRATION);
     }
 
     @Test
@@ -90,7 +88,7 @@ class JwtServiceTest extends BaseUnitTest {
     @DisplayName("Should throw exception for expired token")
     void shouldThrowExceptionForExpiredToken() {
         // Arrange
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", -1); // Expired immediately
+        jwtService = new JwtService(SECRET_KEY, -1); // Expired immediately
         UserDetails userDetails = createTestUser();
         String token = jwtService.generateToken(userDetails);
 
@@ -98,6 +96,73 @@ class JwtServiceTest extends BaseUnitTest {
         assertThrows(ExpiredJwtException.class, () -> jwtService.isTokenValid(token, userDetails));
     }
 
+    @Test
+    @DisplayName("Should parse token once and reuse claims for validation")
+    void shouldParseTokenOnceAndValidate() {
+        // Arrange
+        UserDetails userDetails = createTestUser();
+        String token = jwtService.generateToken(userDetails);
+
+        // Act
+        JwtToken parsed = jwtService.parse(token);
+
+        // Assert
+        assertEquals("testuser", parsed.username());
+        assertNotNull(parsed.expiration());
+        assertEquals(parsed.username(), parsed.claims().getSubject());
+        assertTrue(jwtService.isTokenValid(parsed, userDetails));
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with a different key")
+    void shouldRejectTokenSignedWithDifferentKey() {
+        // Arrange
+        JwtService otherService = new JwtService(
+                "6B5970404E635266556A586E3272357538782F413F4428472B4B625064536756", EXPIRATION);
+        String token = otherService.generateToken(createTestUser());
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> jwtService.parse(token));
+    }
+
+    @Test
+    @DisplayName("Should sign roles and enabled flag into token")
+    void shouldSignRolesAndEnabledFlagIntoToken() {
+        // Arrange
+        UserDetails userDetails = User.withUsername("admin")
+                .password("password")
+                .roles("ADMIN")
+                .build();
+
+        // Act
+        JwtToken parsed = jwtService.parse(jwtService.generateToken(userDetails));
+
+        // Assert
+        assertTrue(parsed.hasAuthorityClaims());
+        assertTrue(parsed.isEnabled());
+        assertEquals("ROLE_ADMIN", parsed.authorities().get(0).getAuthority());
+        assertNotNull(parsed.issuedAt());
+        assertTrue(jwtService.isTokenValid(parsed));
+    }
+
+    @Test
+    @DisplayName("Should reject token of disabled user on claims alone")
+    void shouldRejectDisabledUserOnClaims() {
+        // Arrange
+        UserDetails userDetails = User.withUsername("testuser")
+                .password("password")
+                .authorities(new ArrayList<>())
+                .disabled(true)
+                .build();
+
+        // Act
+        JwtToken parsed = jwtService.parse(jwtService.generateToken(userDetails));
+
+        // Assert
+        assertFalse(parsed.isEnabled());
+        assertFalse(jwtService.isTokenValid(parsed));
+    }
+
     private UserDetails createTestUser() {
         return User.withUsername("testuser")
                 .password("password")
@@ -0,0 +1,94 @@
+package com.github.djoarns.payflow.infrastructure.security;
+
+import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest extends BaseUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(1, 1, Duration.ofSeconds(2), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should return result and record hashing latency")
+    void shouldReturnResultAndRecordLatency() {
+        // Act
+        String result = executor.execute("encode", () -> "hashed");
+
+        // Assert
+        assertEquals("hashed", result);
+        assertEquals(1, meterRegistry.get("payflow.auth.password-hashing")
+                .tag("operation", "encode")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should propagate exceptions thrown by the task")
+    void shouldPropagateTaskExceptions() {
+        // Act & Assert
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute("matches", () -> {
+                    throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+                }));
+        assertEquals("Encoded password does not look like BCrypt", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject work when worker and queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Arrange
+        var running = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var busy = CompletableFuture.supplyAsync(() -> executor.execute("matches", () -> {
+            running.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        var queued = CompletableFuture.supplyAsync(() -> executor.execute("matches", () -> true));
+        waitForQueueDepth(1);
+
+        // Act
+        var exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> executor.execute("matches", () -> true));
+
+        // Assert
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("payflow.auth.password-hashing.rejected").counter().count());
+        release.countDown();
+        assertTrue(busy.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("payflow.auth.password-hashing.queue").gauge().value());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("payflow.auth.password-hashing.queue").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
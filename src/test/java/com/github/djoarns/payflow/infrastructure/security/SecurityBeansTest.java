@@ -1,6 +1,7 @@
 package com.github.djoarns.payflow.infrastructure.security;
 
 import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,8 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,7 +30,11 @@ class SecurityBeansTest extends BaseUnitTest {
 
     @BeforeEach
     void setUp() {
-        securityBeans = new SecurityBeans(userDetailsService);
+        securityBeans = new SecurityBeans(
+                userDetailsService,
+                new PasswordHashingExecutor(1, 10, Duration.ofSeconds(1), new SimpleMeterRegistry()),
+                4
+        );
     }
 
     @Test
@@ -63,5 +70,6 @@ class SecurityBeansTest extends BaseUnitTest {
         assertNotEquals(rawPassword, encodedPassword);
         assertTrue(encoder.matches(rawPassword, encodedPassword));
         assertFalse(encoder.matches("wrongPassword", encodedPassword));
+        assertTrue(encodedPassword.startsWith("$2a$04$"));
     }
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import com.github.djoarns.payflow.domain.user.User;
 import com.github.djoarns.payflow.domain.user.UserRepository;
 import com.github.djoarns.payflow.domain.user.valueobject.Password;
 import com.github.djoarns.payflow.domain.user.valueobject.Username;
+import com.github.djoarns.payflow.infrastructure.cache.UserDetailsCache;
 import com.github.djoarns.payflow.util.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.mockito.Mock;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +30,10 @@ class UserDetailsServiceImplTest extends BaseUnitTest {
 
     @BeforeEach
     void setUp() {
-        userDetailsService = new UserDetailsServiceImpl(userRepository);
+        userDetailsService = new UserDetailsServiceImpl(
+                userRepository,
+                new UserDetailsCache(Duration.ofMinutes(5), 100, new SimpleMeterRegistry())
+        );
     }
 
     @Test
@@ -85,4 +91,41 @@ class UserDetailsServiceImplTest extends BaseUnitTest {
         );
         verify(userRepository).findByUsername(Username.of(username));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should serve repeated lookups from cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Arrange
+        String username = "testuser";
+        User user = User.create(
+                Username.of(username),
+                Password.of("password123")
+        );
+        when(userRepository.findByUsername(any(Username.class)))
+                .thenReturn(Optional.of(user));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername(username);
+        UserDetails second = userDetailsService.loadUserByUsername(username);
+
+        // Assert
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername(Username.of(username));
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown usernames")
+    void shouldNotCacheUnknownUsernames() {
+        // Arrange
+        String username = "nonexistent";
+        when(userRepository.findByUsername(any(Username.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(username));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(username));
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername(Username.of(username));
+    }
+}